@@ -0,0 +1,698 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * <pre>
+ * Annotation processor generating the class metadata used by the ClassAnnotator at runtime.
+ * For every class using the annotations Position, Positions or Recurse, on the type or on its fields,
+ * a class named as the type with the suffix _AnnotatorMetadata is generated.
+ * It lists the fields of the class, including the inherited ones, with their getter, setter, position and recurse flag,
+ * so that the ClassAnnotator does not need to scan the class hierarchy with reflection:
+ * it looks up the listed fields and accessor methods by name and still reads their annotations with reflection.
+ * For every property accessible from the package of the class, a binding calling the getter and setter
+ * or the field in plain java code is generated as well, so that the values are accessed without reflection.
+ * Further trigger annotations can be given as a comma separated list with the option annotator.triggers.
+ * Example :
+ * javac -processorpath annotator-processor.jar -Aannotator.triggers=com.example.Column ...
+ * </pre>
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(MetadataProcessor.TRIGGERS_OPTION)
+public class MetadataProcessor extends AbstractProcessor {
+
+    /**
+     * <pre>
+     * The option listing further annotations that trigger the generation of the metadata.
+     * </pre>
+     */
+    public static final String TRIGGERS_OPTION = "annotator.triggers";
+
+    /**
+     * <pre>
+     * The suffix appended to the binary name of a type to obtain the name of its generated metadata class.
+     * </pre>
+     */
+    public static final String SUFFIX = "_AnnotatorMetadata";
+
+    private static final String ANNOTATIONS_PACKAGE = "io.github.agache41.annotator.annotations.";
+    private static final String POSITION = ANNOTATIONS_PACKAGE + "Position";
+    private static final String POSITIONS = ANNOTATIONS_PACKAGE + "Positions";
+    private static final String RECURSE = ANNOTATIONS_PACKAGE + "Recurse";
+    private static final String METADATA_PACKAGE = "io.github.agache41.annotator.metadata.";
+    private static final String ACCESSOR_PACKAGE = "io.github.agache41.annotator.accessor.";
+    private static final String VALUE = "{value}";
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+    private static final int NO_POSITION = -1;
+    private final Set<String> triggers = new HashSet<>(Arrays.asList(POSITION,
+                                                                     POSITIONS,
+                                                                     RECURSE));
+    private final Set<String> processedTypes = new HashSet<>();
+    private Elements elements;
+    private Types types;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        final String extraTriggers = processingEnv.getOptions()
+                                                  .get(TRIGGERS_OPTION);
+        if (extraTriggers != null) {
+            for (final String trigger : extraTriggers.split(",")) {
+                if (!trigger.trim()
+                            .isEmpty()) {
+                    this.triggers.add(trigger.trim());
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+                           final RoundEnvironment roundEnv) {
+        for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            this.process(type);
+        }
+        // the annotations are not claimed, other processors can still handle them
+        return false;
+    }
+
+    private void process(final TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS && this.isTriggered(type) && this.processedTypes.add(this.elements.getBinaryName(type)
+                                                                                                                  .toString())) {
+            this.generate(type);
+        }
+        for (final TypeElement memberType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            this.process(memberType);
+        }
+    }
+
+    private boolean isTriggered(final TypeElement type) {
+        if (this.hasTrigger(type)) {
+            return true;
+        }
+        for (final Element member : type.getEnclosedElements()) {
+            if ((member.getKind() == ElementKind.FIELD || member.getKind() == ElementKind.METHOD) && this.hasTrigger(member)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasTrigger(final Element element) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (this.triggers.contains(name(annotation))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void generate(final TypeElement type) {
+        final String binaryName = this.elements.getBinaryName(type)
+                                               .toString();
+        final String packageName = this.elements.getPackageOf(type)
+                                                .getQualifiedName()
+                                                .toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        final String metadataName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ")
+                  .append(packageName)
+                  .append(";\n\n");
+        }
+        if (this.elements.getTypeElement(GENERATED) != null) {
+            source.append("@")
+                  .append(GENERATED)
+                  .append("(\"")
+                  .append(MetadataProcessor.class.getName())
+                  .append("\")\n");
+        }
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append("public final class ")
+              .append(simpleName)
+              .append(" implements ")
+              .append(METADATA_PACKAGE)
+              .append("ClassMetadata {\n")
+              .append("    private static final java.util.List<")
+              .append(METADATA_PACKAGE)
+              .append("PropertyMetadata> PROPERTIES = java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+        final Collection<VariableElement> fields = this.fields(type);
+        String separator = "\n";
+        for (final VariableElement field : fields) {
+            source.append(separator)
+                  .append(this.property(type,
+                                        field));
+            separator = ",\n";
+        }
+        source.append("));\n\n")
+              .append("    @Override\n")
+              .append("    public String getTypeName() {\n")
+              .append("        return ")
+              .append(literal(binaryName))
+              .append(";\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public java.util.List<")
+              .append(METADATA_PACKAGE)
+              .append("PropertyMetadata> getProperties() {\n")
+              .append("        return PROPERTIES;\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public boolean isComplete() {\n")
+              .append("        return true;\n")
+              .append("    }\n")
+              .append("}\n");
+        try (final Writer writer = this.processingEnv.getFiler()
+                                                     .createSourceFile(metadataName,
+                                                                       type)
+                                                     .openWriter()) {
+            writer.write(source.toString());
+        } catch (final IOException e) {
+            this.processingEnv.getMessager()
+                              .printMessage(Diagnostic.Kind.ERROR,
+                                            " Could not generate " + metadataName + ": " + e.getMessage(),
+                                            type);
+        }
+    }
+
+    /**
+     * <pre>
+     * Collects the instance and static fields of the type and its super classes,
+     * with the same precedence as the ClassAnnotator: a field of a super class hides the field of the subclass.
+     * </pre>
+     */
+    private Collection<VariableElement> fields(final TypeElement type) {
+        final Map<String, VariableElement> fields = new LinkedHashMap<>();
+        TypeElement current = type;
+        while (current != null && !Object.class.getName()
+                                               .equals(current.getQualifiedName()
+                                                              .toString())) {
+            for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                fields.put(field.getSimpleName()
+                                .toString(),
+                           field);
+            }
+            current = this.superclass(current);
+        }
+        return fields.values();
+    }
+
+    private TypeElement superclass(final TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private String property(final TypeElement type,
+                            final VariableElement field) {
+        final String name = field.getSimpleName()
+                                 .toString();
+        final TypeElement declaringClass = (TypeElement) field.getEnclosingElement();
+        final ExecutableElement getter = this.getter(type,
+                                                     field);
+        final ExecutableElement setter = this.setter(type,
+                                                     field);
+        final String getterName = getter != null ? getter.getSimpleName()
+                                                         .toString() : this.lombokGetter(field);
+        final String setterName = setter != null ? setter.getSimpleName()
+                                                         .toString() : this.lombokSetter(field);
+        int position = NO_POSITION;
+        boolean recurse = this.isRecurseType(field.asType());
+        for (final Element element : new Element[]{field, setter, getter}) {
+            if (element == null) {
+                continue;
+            }
+            if (position == NO_POSITION) {
+                position = this.position(element);
+            }
+            recurse |= this.hasAnnotation(element,
+                                          RECURSE);
+        }
+        return "        new " + METADATA_PACKAGE + "PropertyMetadata(" + literal(name) + ", "
+                + literal(this.elements.getBinaryName(declaringClass)
+                                       .toString()) + ", "
+                + literal(getterName) + ", "
+                + literal(setterName) + ", "
+                + position + ", "
+                + recurse + ", "
+                + this.binding(type,
+                               field,
+                               getter,
+                               setter,
+                               getterName,
+                               setterName) + ")";
+    }
+
+    /**
+     * <pre>
+     * Generates the binding of the property, as an anonymous subclass of Binding.
+     * The binding is only generated if it can read the value and write it whenever the field is writable,
+     * otherwise null is generated and the property is bound at runtime.
+     * </pre>
+     */
+    private String binding(final TypeElement type,
+                           final VariableElement field,
+                           final ExecutableElement getter,
+                           final ExecutableElement setter,
+                           final String getterName,
+                           final String setterName) {
+        final String packageName = this.elements.getPackageOf(type)
+                                                .getQualifiedName()
+                                                .toString();
+        final TypeMirror fieldType = this.types.erasure(field.asType());
+        final TypeMirror valueType = getter != null ? this.types.erasure(getter.getReturnType()) : fieldType;
+        if (!this.isAccessible(type,
+                               packageName) || !this.isAccessible(fieldType,
+                                                                  packageName) || !this.isAccessible(valueType,
+                                                                                                     packageName)) {
+            return "null";
+        }
+        final String typeName = type.getQualifiedName()
+                                    .toString();
+        final TypeElement declaringClass = (TypeElement) field.getEnclosingElement();
+        final boolean fieldAccessible = this.isAccessible(declaringClass,
+                                                          packageName) && this.isAccessible(field,
+                                                                                            packageName);
+        final String fieldOwner = field.getModifiers()
+                                       .contains(Modifier.STATIC) ? declaringClass.getQualifiedName()
+                                                                                  .toString() : "((" + declaringClass.getQualifiedName() + ") target)";
+        final String reader;
+        if (getterName != null) {
+            reader = owner(getter,
+                           typeName) + "." + getterName + "()";
+        } else if (fieldAccessible) {
+            reader = fieldOwner + "." + field.getSimpleName();
+        } else {
+            reader = null;
+        }
+        final String writer;
+        if (setterName != null) {
+            writer = owner(setter,
+                           typeName) + "." + setterName + "(" + VALUE + ")";
+        } else if (fieldAccessible && !field.getModifiers()
+                                            .contains(Modifier.FINAL)) {
+            writer = fieldOwner + "." + field.getSimpleName() + " = " + VALUE;
+        } else {
+            writer = null;
+        }
+        if (reader == null || (writer == null && !field.getModifiers()
+                                                       .contains(Modifier.FINAL))) {
+            return "null";
+        }
+        final String primitiveKind = valueType.getKind()
+                                              .isPrimitive() ? valueType.getKind()
+                                                                        .name() : "NONE";
+        final String castType = fieldType.getKind()
+                                         .isPrimitive() ? this.types.boxedClass((PrimitiveType) fieldType)
+                                                                    .getQualifiedName()
+                                                                    .toString() : fieldType.toString();
+        final StringBuilder binding = new StringBuilder();
+        binding.append("new ")
+               .append(ACCESSOR_PACKAGE)
+               .append("Binding(")
+               .append(ACCESSOR_PACKAGE)
+               .append("PrimitiveKind.")
+               .append(primitiveKind)
+               .append(") {\n")
+               .append("            @Override\n")
+               .append("            public Object get(final Object target) {\n")
+               .append("                return ")
+               .append(reader)
+               .append(";\n")
+               .append("            }\n\n")
+               .append("            @Override\n")
+               .append("            public void set(final Object target, final Object value) throws Throwable {\n");
+        if (writer != null) {
+            binding.append("                ")
+                   .append(writer.replace(VALUE,
+                                          "(" + castType + ") value"))
+                   .append(";\n");
+        } else {
+            binding.append("                throw new IllegalAccessException(\" No setter or writable field available for writing!\");\n");
+        }
+        binding.append("            }\n\n");
+        final String primitiveName = primitiveName(valueType.getKind());
+        if (primitiveName != null && this.types.isSameType(valueType,
+                                                           fieldType)) {
+            final String primitiveType = valueType.toString();
+            binding.append("            @Override\n")
+                   .append("            public ")
+                   .append(primitiveType)
+                   .append(" get")
+                   .append(primitiveName)
+                   .append("(final Object target) {\n")
+                   .append("                return ")
+                   .append(reader)
+                   .append(";\n")
+                   .append("            }\n\n");
+            if (writer != null) {
+                binding.append("            @Override\n")
+                       .append("            public void set")
+                       .append(primitiveName)
+                       .append("(final Object target, final ")
+                       .append(primitiveType)
+                       .append(" value) {\n")
+                       .append("                ")
+                       .append(writer.replace(VALUE,
+                                              "value"))
+                       .append(";\n")
+                       .append("            }\n\n");
+            }
+        }
+        binding.append("            @Override\n")
+               .append("            public ")
+               .append(ACCESSOR_PACKAGE)
+               .append("AccessMode getAccessMode() {\n")
+               .append("                return ")
+               .append(ACCESSOR_PACKAGE)
+               .append("AccessMode.GENERATED;\n")
+               .append("            }\n")
+               .append("        }");
+        return binding.toString();
+    }
+
+    private static String owner(final ExecutableElement method,
+                                final String typeName) {
+        if (method != null && method.getModifiers()
+                                    .contains(Modifier.STATIC)) {
+            return ((TypeElement) method.getEnclosingElement()).getQualifiedName()
+                                                               .toString();
+        }
+        return "((" + typeName + ") target)";
+    }
+
+    private static String primitiveName(final TypeKind kind) {
+        switch (kind) {
+            case INT:
+                return "Int";
+            case LONG:
+                return "Long";
+            case DOUBLE:
+                return "Double";
+            case BOOLEAN:
+                return "Boolean";
+            default:
+                return null;
+        }
+    }
+
+    private boolean isAccessible(final TypeMirror type,
+                                 final String packageName) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return this.isAccessible(((ArrayType) type).getComponentType(),
+                                         packageName);
+            case DECLARED:
+                return this.isAccessible(((DeclaredType) type).asElement(),
+                                         packageName);
+            default:
+                return type.getKind()
+                           .isPrimitive();
+        }
+    }
+
+    /**
+     * <pre>
+     * Tells if the element and all its enclosing types can be referenced from the given package.
+     * </pre>
+     */
+    private boolean isAccessible(final Element element,
+                                 final String packageName) {
+        Element current = element;
+        while (current != null && current.getKind() != ElementKind.PACKAGE) {
+            final Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !this.elements.getPackageOf(current)
+                                                                      .getQualifiedName()
+                                                                      .contentEquals(packageName)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * <pre>
+     * Resolves the getter in the same order as the MethodIndex at runtime:
+     * getName(), isName() for boolean properties, then name() as fluent accessor.
+     * </pre>
+     */
+    private ExecutableElement getter(final TypeElement type,
+                                     final VariableElement field) {
+        final String name = field.getSimpleName()
+                                 .toString();
+        final TypeMirror fieldType = this.types.erasure(field.asType());
+        final ExecutableElement getter = this.method(type,
+                                                     "get" + capitalize(name),
+                                                     null);
+        if (getter != null) {
+            return getter;
+        }
+        if (this.isBoolean(fieldType)) {
+            final ExecutableElement isGetter = this.method(type,
+                                                           "is" + capitalize(name),
+                                                           null);
+            if (isGetter != null && this.isBoolean(this.types.erasure(isGetter.getReturnType()))) {
+                return isGetter;
+            }
+        }
+        final ExecutableElement fluent = this.method(type,
+                                                     name,
+                                                     null);
+        if (fluent != null && this.types.isSameType(fieldType,
+                                                    this.types.erasure(fluent.getReturnType()))) {
+            return fluent;
+        }
+        return null;
+    }
+
+    /**
+     * <pre>
+     * Resolves the setter in the same order as the MethodIndex at runtime:
+     * setName(value), then name(value) as fluent accessor returning nothing or the type itself.
+     * </pre>
+     */
+    private ExecutableElement setter(final TypeElement type,
+                                     final VariableElement field) {
+        final String name = field.getSimpleName()
+                                 .toString();
+        final TypeMirror fieldType = this.types.erasure(field.asType());
+        final ExecutableElement setter = this.method(type,
+                                                     "set" + capitalize(name),
+                                                     fieldType);
+        if (setter != null) {
+            return setter;
+        }
+        final ExecutableElement fluent = this.method(type,
+                                                     name,
+                                                     fieldType);
+        if (fluent != null && (fluent.getReturnType()
+                                     .getKind() == TypeKind.VOID || this.types.isAssignable(this.types.erasure(type.asType()),
+                                                                                            this.types.erasure(fluent.getReturnType())))) {
+            return fluent;
+        }
+        return null;
+    }
+
+    /**
+     * <pre>
+     * Finds the public instance method with the given name, without parameters or with one parameter of the given type.
+     * </pre>
+     */
+    private ExecutableElement method(final TypeElement type,
+                                     final String name,
+                                     final TypeMirror parameterType) {
+        for (final ExecutableElement method : ElementFilter.methodsIn(this.elements.getAllMembers(type))) {
+            if (!method.getSimpleName()
+                       .contentEquals(name) || !method.getModifiers()
+                                                      .contains(Modifier.PUBLIC) || method.getModifiers()
+                                                                                          .contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (parameterType == null ? method.getParameters()
+                                              .isEmpty() : method.getParameters()
+                                                                 .size() == 1 && this.types.isSameType(parameterType,
+                                                                                                       this.types.erasure(method.getParameters()
+                                                                                                                                .get(0)
+                                                                                                                                .asType()))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean isBoolean(final TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || (type.getKind() == TypeKind.DECLARED && Boolean.class.getName()
+                                                                                                         .equals(((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName()
+                                                                                                                                                                  .toString()));
+    }
+
+    /**
+     * <pre>
+     * The lombok accessors are generated during the same compilation and are not visible yet,
+     * so their conventional names are used.
+     * </pre>
+     */
+    private String lombokGetter(final VariableElement field) {
+        if (field.getModifiers()
+                 .contains(Modifier.STATIC) || !this.hasLombok(field,
+                                                               "lombok.Getter",
+                                                               "lombok.Data",
+                                                               "lombok.Value")) {
+            return null;
+        }
+        final String prefix = field.asType()
+                                   .getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        return prefix + capitalize(field.getSimpleName()
+                                        .toString());
+    }
+
+    private String lombokSetter(final VariableElement field) {
+        if (field.getModifiers()
+                 .contains(Modifier.STATIC) || field.getModifiers()
+                                                    .contains(Modifier.FINAL) || !this.hasLombok(field,
+                                                                                                 "lombok.Setter",
+                                                                                                 "lombok.Data")) {
+            return null;
+        }
+        return "set" + capitalize(field.getSimpleName()
+                                       .toString());
+    }
+
+    private boolean hasLombok(final VariableElement field,
+                              final String... annotations) {
+        for (final String annotation : annotations) {
+            if (this.hasAnnotation(field,
+                                   annotation) || this.hasAnnotation(field.getEnclosingElement(),
+                                                                     annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int position(final Element element) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final String annotationName = name(annotation);
+            if (POSITION.equals(annotationName)) {
+                return (Integer) value(annotation);
+            }
+            if (POSITIONS.equals(annotationName)) {
+                final List<?> positions = (List<?>) value(annotation);
+                if (!positions.isEmpty()) {
+                    return (Integer) value((AnnotationMirror) ((AnnotationValue) positions.get(0)).getValue());
+                }
+            }
+        }
+        return NO_POSITION;
+    }
+
+    private boolean isRecurseType(final TypeMirror fieldType) {
+        if (fieldType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        // Recurse is inherited, so the super classes of the field type count as well
+        TypeElement current = (TypeElement) ((DeclaredType) fieldType).asElement();
+        while (current != null) {
+            if (this.hasAnnotation(current,
+                                   RECURSE)) {
+                return true;
+            }
+            current = this.superclass(current);
+        }
+        return false;
+    }
+
+    private boolean hasAnnotation(final Element element,
+                                  final String annotationName) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationName.equals(name(annotation))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String name(final AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType()
+                                        .asElement()).getQualifiedName()
+                                                     .toString();
+    }
+
+    private static Object value(final AnnotationMirror annotation) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+                                                                                                        .entrySet()) {
+            if (entry.getKey()
+                     .getSimpleName()
+                     .contentEquals("value")) {
+                return entry.getValue()
+                            .getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String capitalize(final String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String literal(final String value) {
+        if (value == null) {
+            return "null";
+        }
+        return "\"" + value.replace("\\", "\\\\")
+                           .replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.processor;
+
+import io.github.agache41.annotator.accessor.AccessMode;
+import io.github.agache41.annotator.accessor.Accessor;
+import io.github.agache41.annotator.annotator.Annotate;
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.metadata.ClassMetadata;
+import io.github.agache41.annotator.metadata.MetadataRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <pre>
+ * Compiles a class with the processor against the library, loads it together with its generated metadata
+ * and checks that the ClassAnnotator builds its accessors from the metadata.
+ * </pre>
+ */
+public class GeneratedMetadataTest {
+
+    private static final String ENTITY = "package e2e;\n" +
+                                         "import io.github.agache41.annotator.annotations.Position;\n" +
+                                         "public class Entity {\n" +
+                                         "    @Position(1)\n" +
+                                         "    private String name;\n" +
+                                         "    @Position(2)\n" +
+                                         "    private boolean active;\n" +
+                                         "    @Position(3)\n" +
+                                         "    private int count;\n" +
+                                         "    public String getName() { return name; }\n" +
+                                         "    public void setName(String name) { this.name = name; }\n" +
+                                         "    public boolean isActive() { return active; }\n" +
+                                         "    public void setActive(boolean active) { this.active = active; }\n" +
+                                         "    public int getCount() { return count; }\n" +
+                                         "    public void setCount(int count) { this.count = count; }\n" +
+                                         "}";
+
+    @TempDir
+    Path classes;
+
+    private static String libraryClassPath() throws URISyntaxException {
+        return Paths.get(ClassMetadata.class.getProtectionDomain()
+                                            .getCodeSource()
+                                            .getLocation()
+                                            .toURI())
+                    .toString();
+    }
+
+    private void compile() throws IOException, URISyntaxException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///e2e/Entity.java"),
+                                                               JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return ENTITY;
+            }
+        };
+        final JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                                   null,
+                                                                   diagnostics,
+                                                                   Arrays.asList("-d",
+                                                                                 this.classes.toString(),
+                                                                                 "-classpath",
+                                                                                 libraryClassPath()),
+                                                                   null,
+                                                                   Collections.singletonList(source));
+        task.setProcessors(Collections.singletonList(new MetadataProcessor()));
+        assertTrue(task.call(), diagnostics.getDiagnostics()
+                                           .toString());
+    }
+
+    @Test
+    public void testGeneratedMetadataIsUsed() throws Exception {
+        this.compile();
+        assertTrue(Files.exists(this.classes.resolve("e2e/Entity" + MetadataProcessor.SUFFIX + ".class")));
+        try (final URLClassLoader classLoader = new URLClassLoader(new URL[]{this.classes.toUri()
+                                                                                         .toURL()},
+                                                                   this.getClass()
+                                                                       .getClassLoader())) {
+            final Class<?> entityClass = Class.forName("e2e.Entity",
+                                                       true,
+                                                       classLoader);
+            try {
+                final ClassMetadata metadata = MetadataRegistry.of(entityClass);
+                assertNotNull(metadata);
+                assertEquals("e2e.Entity" + ClassMetadata.SUFFIX, metadata.getClass()
+                                                                          .getName());
+                assertTrue(metadata.isComplete());
+                final Annotate<? extends Class<?>> annotate = Annotator.of(entityClass);
+                final Object entity = entityClass.getConstructor()
+                                                 .newInstance();
+                final Accessor<?> active = annotate.getAccessor("active");
+                assertEquals(AccessMode.GENERATED, active.getAccessMode());
+                assertEquals("isActive", active.getGetter()
+                                               .getName());
+                assertEquals(2, active.getPosition());
+                active.set(entity, true);
+                assertEquals(true, active.get(entity));
+                final Accessor<?> count = annotate.getAccessor("count");
+                assertEquals(AccessMode.GENERATED, count.getAccessMode());
+                count.setInt(entity, 7);
+                assertEquals(7, count.getInt(entity));
+                final Accessor<?> name = annotate.getAccessor("name");
+                name.set(entity, "generated");
+                assertEquals("generated", entityClass.getMethod("getName")
+                                                     .invoke(entity));
+            } finally {
+                Annotator.invalidate(entityClass);
+                MetadataRegistry.invalidate(entityClass);
+            }
+        }
+    }
+}
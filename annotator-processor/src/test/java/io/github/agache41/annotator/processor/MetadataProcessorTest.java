@@ -0,0 +1,178 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetadataProcessorTest {
+
+    @TempDir
+    Path output;
+
+    private static JavaFileObject source(final String name,
+                                         final String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"),
+                                        JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    private Path compile(final List<String> options,
+                         final JavaFileObject... sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final List<String> allOptions = new java.util.ArrayList<>(Arrays.asList("-proc:only",
+                                                                                "-s",
+                                                                                this.output.toString()));
+        allOptions.addAll(options);
+        final JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                                   null,
+                                                                   diagnostics,
+                                                                   allOptions,
+                                                                   null,
+                                                                   Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new MetadataProcessor()));
+        assertTrue(task.call(), diagnostics.getDiagnostics()
+                                           .toString());
+        return this.output;
+    }
+
+    private static final JavaFileObject POSITION = source("io.github.agache41.annotator.annotations.Position",
+                                                          "package io.github.agache41.annotator.annotations;\n" +
+                                                          "public @interface Position { int value(); }");
+    private static final JavaFileObject RECURSE = source("io.github.agache41.annotator.annotations.Recurse",
+                                                         "package io.github.agache41.annotator.annotations;\n" +
+                                                         "public @interface Recurse { }");
+    private static final JavaFileObject CLASS_METADATA = source("io.github.agache41.annotator.metadata.ClassMetadata",
+                                                                "package io.github.agache41.annotator.metadata;\n" +
+                                                                "public interface ClassMetadata {\n" +
+                                                                "    String getTypeName();\n" +
+                                                                "    java.util.List<PropertyMetadata> getProperties();\n" +
+                                                                "    default boolean isComplete() { return false; }\n" +
+                                                                "}");
+    private static final JavaFileObject PROPERTY_METADATA = source("io.github.agache41.annotator.metadata.PropertyMetadata",
+                                                                   "package io.github.agache41.annotator.metadata;\n" +
+                                                                   "public final class PropertyMetadata {\n" +
+                                                                   "    public PropertyMetadata(String name, String declaringClassName, String getterName, String setterName,\n" +
+                                                                   "                            int position, boolean recurse, io.github.agache41.annotator.accessor.Binding binding) { }\n" +
+                                                                   "}");
+    private static final JavaFileObject BINDING = source("io.github.agache41.annotator.accessor.Binding",
+                                                         "package io.github.agache41.annotator.accessor;\n" +
+                                                         "public abstract class Binding {\n" +
+                                                         "    protected Binding(PrimitiveKind primitiveKind) { }\n" +
+                                                         "    public abstract Object get(Object target) throws Throwable;\n" +
+                                                         "    public abstract void set(Object target, Object value) throws Throwable;\n" +
+                                                         "    public int getInt(Object target) throws Throwable { return 0; }\n" +
+                                                         "    public void setInt(Object target, int value) throws Throwable { }\n" +
+                                                         "    public abstract AccessMode getAccessMode();\n" +
+                                                         "}");
+    private static final JavaFileObject PRIMITIVE_KIND = source("io.github.agache41.annotator.accessor.PrimitiveKind",
+                                                                "package io.github.agache41.annotator.accessor;\n" +
+                                                                "public enum PrimitiveKind { NONE, INT }");
+    private static final JavaFileObject ACCESS_MODE = source("io.github.agache41.annotator.accessor.AccessMode",
+                                                             "package io.github.agache41.annotator.accessor;\n" +
+                                                             "public enum AccessMode { GENERATED }");
+
+    @Test
+    public void testGeneratedMetadata() throws IOException {
+        final Path output = compile(Collections.emptyList(),
+                                    POSITION,
+                                    RECURSE,
+                                    CLASS_METADATA,
+                                    PROPERTY_METADATA,
+                                    BINDING,
+                                    PRIMITIVE_KIND,
+                                    ACCESS_MODE,
+                                    source("test.Base",
+                                           "package test;\n" +
+                                           "public class Base {\n" +
+                                           "    private String id;\n" +
+                                           "    public String getId() { return id; }\n" +
+                                           "}"),
+                                    source("test.Marked",
+                                           "package test;\n" +
+                                           "import io.github.agache41.annotator.annotations.*;\n" +
+                                           "public class Marked extends Base {\n" +
+                                           "    @Position(2)\n" +
+                                           "    private String name;\n" +
+                                           "    @Recurse\n" +
+                                           "    private Base embedded;\n" +
+                                           "    public String getName() { return name; }\n" +
+                                           "    public void setName(String name) { this.name = name; }\n" +
+                                           "    @Position(3)\n" +
+                                           "    private boolean active;\n" +
+                                           "    public boolean isActive() { return active; }\n" +
+                                           "    public void setActive(boolean active) { this.active = active; }\n" +
+                                           "    @Position(4)\n" +
+                                           "    private String code;\n" +
+                                           "    public String code() { return code; }\n" +
+                                           "    public Marked code(String code) { this.code = code; return this; }\n" +
+                                           "    public static class Inner { @Position(1) int value; }\n" +
+                                           "}"));
+        final String metadata = new String(Files.readAllBytes(output.resolve("test/Marked_AnnotatorMetadata.java")));
+        assertTrue(metadata.contains("public final class Marked_AnnotatorMetadata implements io.github.agache41.annotator.metadata.ClassMetadata"));
+        assertTrue(metadata.contains("return \"test.Marked\";"));
+        assertTrue(metadata.contains("public boolean isComplete() {\n        return true;"));
+        assertTrue(metadata.contains("PropertyMetadata(\"name\", \"test.Marked\", \"getName\", \"setName\", 2, false, new io.github.agache41.annotator.accessor.Binding("));
+        assertTrue(metadata.contains("PropertyMetadata(\"embedded\", \"test.Marked\", null, null, -1, true, null)"));
+        // the accessors are resolved in the same order as the MethodIndex: get, is for booleans, then fluent
+        assertTrue(metadata.contains("PropertyMetadata(\"active\", \"test.Marked\", \"isActive\", \"setActive\", 3, false, "));
+        assertTrue(metadata.contains("PropertyMetadata(\"code\", \"test.Marked\", \"code\", \"code\", 4, false, "));
+        assertTrue(metadata.contains("PropertyMetadata(\"id\", \"test.Base\", \"getId\", null, -1, false, null)"));
+        assertTrue(metadata.contains("((test.Marked) target).setName((java.lang.String) value);"));
+        final String inner = new String(Files.readAllBytes(output.resolve("test/Marked$Inner_AnnotatorMetadata.java")));
+        // package private fields are accessed directly, primitives without boxing
+        assertTrue(inner.contains("public int getInt(final Object target) {\n                return ((test.Marked.Inner) target).value;"));
+        assertTrue(inner.contains("((test.Marked.Inner) target).value = value;"));
+        assertFalse(Files.exists(output.resolve("test/Base_AnnotatorMetadata.java")));
+    }
+
+    @Test
+    public void testTriggersOption() throws IOException {
+        final Path output = compile(Collections.singletonList("-A" + MetadataProcessor.TRIGGERS_OPTION + "=test.Column"),
+                                    CLASS_METADATA,
+                                    PROPERTY_METADATA,
+                                    BINDING,
+                                    PRIMITIVE_KIND,
+                                    ACCESS_MODE,
+                                    source("test.Column",
+                                           "package test;\n" +
+                                           "public @interface Column { }"),
+                                    source("test.Entity",
+                                           "package test;\n" +
+                                           "public class Entity {\n" +
+                                           "    @Column\n" +
+                                           "    private String name;\n" +
+                                           "}"));
+        assertTrue(Files.exists(output.resolve("test/Entity_AnnotatorMetadata.java")));
+    }
+}
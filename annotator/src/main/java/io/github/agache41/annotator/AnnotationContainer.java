@@ -0,0 +1,129 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * <pre>
+ * Describes whether an annotation type is a container of other annotations,
+ * that is an annotation type with a value() element returning an annotation array,
+ * like the containers generated for repeatable annotations.
+ * The description is computed once per annotation type, without exceptions as control flow,
+ * and for containers holds a compiled extractor of the value() element.
+ * Example :
+ * AnnotationContainer.of(Positions.class).isContainer()             // true
+ * AnnotationContainer.of(Positions.class).unpack(positions)         // the contained Position annotations
+ * </pre>
+ */
+public final class AnnotationContainer {
+
+    private static final AnnotationContainer NONE = new AnnotationContainer(null);
+
+    private static final MethodType EXTRACTOR_TYPE = MethodType.methodType(Annotation[].class,
+                                                                           Annotation.class);
+
+    private static final ClassValue<AnnotationContainer> CACHE = new ClassValue<AnnotationContainer>() {
+        @Override
+        protected AnnotationContainer computeValue(final Class<?> type) {
+            return AnnotationContainer.compute(type);
+        }
+    };
+
+    private final MethodHandle extractor;
+
+    private AnnotationContainer(final MethodHandle extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * <pre>
+     * Gets the container description of the given annotation type.
+     * </pre>
+     *
+     * @param annotationType the annotation type
+     * @return the container description
+     */
+    public static AnnotationContainer of(final Class<? extends Annotation> annotationType) {
+        return CACHE.get(annotationType);
+    }
+
+    private static AnnotationContainer compute(final Class<?> annotationType) {
+        for (final Method method : annotationType.getDeclaredMethods()) {
+            if ("value".equals(method.getName())
+                && method.getParameterCount() == 0
+                && method.getReturnType()
+                         .isArray()
+                && Annotation.class.isAssignableFrom(method.getReturnType()
+                                                           .getComponentType())) {
+                return new AnnotationContainer(extractor(method));
+            }
+        }
+        return NONE;
+    }
+
+    private static MethodHandle extractor(final Method method) {
+        try {
+            if (!Modifier.isPublic(method.getDeclaringClass()
+                                         .getModifiers()) && !method.trySetAccessible()) {
+                return null;
+            }
+            return MethodHandles.lookup()
+                                .unreflect(method)
+                                .asType(EXTRACTOR_TYPE);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            // containers that cannot be unreflected are not unpacked, as before
+            return null;
+        }
+    }
+
+    /**
+     * <pre>
+     * Tells if the annotation type is a container of other annotations.
+     * </pre>
+     *
+     * @return true if the annotation type is a container
+     */
+    public boolean isContainer() {
+        return this.extractor != null;
+    }
+
+    /**
+     * <pre>
+     * Extracts the contained annotations from the given container annotation.
+     * </pre>
+     *
+     * @param container the container annotation
+     * @return the contained annotations, or null if the annotation type is not a container
+     */
+    public Annotation[] unpack(final Annotation container) {
+        if (this.extractor == null) {
+            return null;
+        }
+        try {
+            return (Annotation[]) this.extractor.invokeExact(container);
+        } catch (final Throwable e) {
+            throw new RuntimeException("Could not unpack " + container + " !", e);
+        }
+    }
+}
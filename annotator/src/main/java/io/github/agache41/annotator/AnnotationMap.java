@@ -0,0 +1,177 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Immutable multimap from annotation type to the annotations of that type present in a scope.
+ * It is built once per scope, from the annotations with the repeatable containers already unpacked,
+ * so that the lookups by type are plain map hits, without streams or copies.
+ * Example :
+ * AnnotationMap annotationMap = AnnotationMap.of(Helper.unpackAnnotations(annotations));
+ * List{@literal <}Position{@literal >} positions = annotationMap.get(Position.class);
+ * </pre>
+ */
+public final class AnnotationMap {
+
+    /**
+     * <pre>
+     * The empty annotation map.
+     * </pre>
+     */
+    public static final AnnotationMap EMPTY = new AnnotationMap(Collections.emptyList());
+
+    private final List<Annotation> annotations;
+    private final Map<Class<? extends Annotation>, List<? extends Annotation>> annotationsByType;
+    private final Set<Class<? extends Annotation>> types;
+    private final Map<Class<? extends Annotation>, ViewIndex<? extends Annotation>> viewIndexes = new ConcurrentHashMap<>();
+
+    private AnnotationMap(final List<Annotation> annotations) {
+        this.annotations = Collections.unmodifiableList(new ArrayList<>(annotations));
+        final Map<Class<? extends Annotation>, List<Annotation>> annotationsByType = new LinkedHashMap<>();
+        for (final Annotation annotation : this.annotations) {
+            annotationsByType.computeIfAbsent(annotation.annotationType(),
+                                              type -> new ArrayList<>(1))
+                             .add(annotation);
+        }
+        final Map<Class<? extends Annotation>, List<? extends Annotation>> result = new HashMap<>(annotationsByType.size() * 2);
+        annotationsByType.forEach((type, list) -> result.put(type,
+                                                             Collections.unmodifiableList(list)));
+        this.annotationsByType = result;
+        this.types = Collections.unmodifiableSet(result.keySet());
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create an AnnotationMap over the given annotations.
+     * The containers of repeatable annotations must already be unpacked.
+     * </pre>
+     *
+     * @param annotations the annotations, in scope order
+     * @return the annotation map
+     */
+    public static AnnotationMap of(final List<Annotation> annotations) {
+        if (annotations.isEmpty()) {
+            return EMPTY;
+        }
+        return new AnnotationMap(annotations);
+    }
+
+    /**
+     * <pre>
+     * Gets all the annotations, in scope order.
+     * </pre>
+     *
+     * @return the annotations
+     */
+    public List<Annotation> getAll() {
+        return this.annotations;
+    }
+
+    /**
+     * <pre>
+     * Gets the annotations of the given type, in scope order.
+     * </pre>
+     *
+     * @param <A>            the annotation type
+     * @param annotationType the annotation type
+     * @return the annotations, empty if there are none
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Annotation> List<A> get(final Class<A> annotationType) {
+        final List<? extends Annotation> annotations = this.annotationsByType.get(annotationType);
+        return annotations == null ? Collections.emptyList() : (List<A>) annotations;
+    }
+
+    /**
+     * <pre>
+     * Gets the first annotation of the given type.
+     * </pre>
+     *
+     * @param <A>            the annotation type
+     * @param annotationType the annotation type
+     * @return the annotation, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Annotation> A getFirst(final Class<A> annotationType) {
+        final List<? extends Annotation> annotations = this.annotationsByType.get(annotationType);
+        return annotations == null ? null : (A) annotations.get(0);
+    }
+
+    /**
+     * <pre>
+     * Tells if annotations of the given type are present.
+     * </pre>
+     *
+     * @param annotationType the annotation type
+     * @return true if present, false otherwise
+     */
+    public boolean contains(final Class<? extends Annotation> annotationType) {
+        return this.annotationsByType.containsKey(annotationType);
+    }
+
+    /**
+     * <pre>
+     * Gets the types of the annotations present.
+     * </pre>
+     *
+     * @return the annotation types
+     */
+    public Set<Class<? extends Annotation>> getTypes() {
+        return this.types;
+    }
+
+    /**
+     * <pre>
+     * Gets the view index of the annotations of the given type.
+     * The index is built on first use and kept with the map.
+     * </pre>
+     *
+     * @param <A>            the annotation type
+     * @param annotationType the annotation type
+     * @return the view index
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Annotation> ViewIndex<A> getViewIndex(final Class<A> annotationType) {
+        return (ViewIndex<A>) this.viewIndexes.computeIfAbsent(annotationType,
+                                                               type -> ViewIndex.of(this.get(annotationType)));
+    }
+
+    /**
+     * <pre>
+     * Gets the number of annotations.
+     * </pre>
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.annotations.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return this.annotations.toString();
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Describes the view attribute of an annotation type, that is a view() element returning a String or a String array.
+ * The description is computed once per annotation type and holds a compiled extractor of the view() element,
+ * so reading the views of an annotation does not go through the Annotator and reflective invocation.
+ * The views can also be read as a ViewMask of the ids interned in the ViewRegistry.
+ * The mask is computed once per annotation instance and kept in a weak identity cache, so the view checks
+ * of the view id predicates are a cache lookup and a bitwise test.
+ * Example :
+ * AnnotationView.of(Column.class).getViews(column)     // ["default"] or ["v1", "admin"]
+ * AnnotationView.of(Column.class).getViewMask(column)  // [0] or [1, 2]
+ * </pre>
+ */
+public final class AnnotationView {
+
+    /**
+     * The default view
+     */
+    public static final String DEFAULT = "default";
+
+    private static final AnnotationView NONE = new AnnotationView(null);
+
+    private static final ClassValue<AnnotationView> CACHE = new ClassValue<AnnotationView>() {
+        @Override
+        protected AnnotationView computeValue(final Class<?> type) {
+            return AnnotationView.compute(type);
+        }
+    };
+
+    private static final ViewMask DEFAULT_MASK = ViewMask.of(ViewRegistry.DEFAULT_ID);
+
+    private final MethodHandle extractor;
+    private final Map<Object, ViewMask> viewMasks = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Annotation> collected = new ReferenceQueue<>();
+
+    private AnnotationView(final MethodHandle extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * <pre>
+     * Gets the view description of the given annotation type.
+     * </pre>
+     *
+     * @param annotationType the annotation type
+     * @return the view description
+     */
+    public static AnnotationView of(final Class<? extends Annotation> annotationType) {
+        return CACHE.get(annotationType);
+    }
+
+    /**
+     * <pre>
+     * Tells if the given view name is the default view.
+     * </pre>
+     *
+     * @param view the view name
+     * @return true if the view is the default view
+     */
+    public static boolean isDefault(final String view) {
+        return DEFAULT.equalsIgnoreCase(view);
+    }
+
+    private static AnnotationView compute(final Class<?> annotationType) {
+        for (final Method method : annotationType.getDeclaredMethods()) {
+            if ("view".equals(method.getName())
+                && method.getParameterCount() == 0
+                && (String.class.equals(method.getReturnType()) || String[].class.equals(method.getReturnType()))) {
+                final MethodHandle extractor = extractor(method);
+                return extractor == null ? NONE : new AnnotationView(extractor);
+            }
+        }
+        return NONE;
+    }
+
+    private static MethodHandle extractor(final Method method) {
+        try {
+            if (!Modifier.isPublic(method.getDeclaringClass()
+                                         .getModifiers()) && !method.trySetAccessible()) {
+                return null;
+            }
+            return MethodHandles.lookup()
+                                .unreflect(method)
+                                .asType(MethodType.methodType(Object.class,
+                                                              Annotation.class));
+        } catch (final IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * <pre>
+     * Tells if the annotation type has a view attribute.
+     * </pre>
+     *
+     * @return true if the annotation type has a view attribute
+     */
+    public boolean hasView() {
+        return this.extractor != null;
+    }
+
+    /**
+     * <pre>
+     * Gets the views of the given annotation.
+     * </pre>
+     *
+     * @param annotation the annotation
+     * @return the views, or null if the annotation type has no view attribute
+     */
+    public String[] getViews(final Annotation annotation) {
+        if (this.extractor == null) {
+            return null;
+        }
+        final Object views;
+        try {
+            views = this.extractor.invokeExact(annotation);
+        } catch (final Throwable e) {
+            throw new RuntimeException("Could not read the view of " + annotation + " !", e);
+        }
+        return views instanceof String[] ? (String[]) views : new String[]{(String) views};
+    }
+
+    /**
+     * <pre>
+     * Tells if the given annotation belongs to the default view.
+     * Annotations without view attribute belong to the default view.
+     * </pre>
+     *
+     * @param annotation the annotation
+     * @return true if the annotation is in the default view
+     */
+    public boolean isInDefault(final Annotation annotation) {
+        final String[] views = this.getViews(annotation);
+        if (views == null) {
+            return true;
+        }
+        for (final String view : views) {
+            if (isDefault(view)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <pre>
+     * Tells if the given annotation belongs to the given view.
+     * </pre>
+     *
+     * @param annotation the annotation
+     * @param view       the view name
+     * @return true if the annotation is in the view
+     */
+    public boolean isInView(final Annotation annotation,
+                            final String view) {
+        final String[] views = this.getViews(annotation);
+        if (views == null) {
+            return false;
+        }
+        for (final String candidate : views) {
+            if (view.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <pre>
+     * Gets the views of the given annotation as a mask of view ids, registering the views if needed.
+     * Annotations without view attribute belong to the default view.
+     * The mask is cached per annotation instance.
+     * </pre>
+     *
+     * @param annotation the annotation
+     * @return the view mask
+     */
+    public ViewMask getViewMask(final Annotation annotation) {
+        if (this.extractor == null) {
+            return DEFAULT_MASK;
+        }
+        final ViewMask cached = this.viewMasks.get(new IdentityLookup(annotation));
+        if (cached != null) {
+            return cached;
+        }
+        final String[] views = this.getViews(annotation);
+        final int[] ids = new int[views.length];
+        for (int index = 0; index < views.length; index++) {
+            ids[index] = ViewRegistry.idOf(views[index]);
+        }
+        final ViewMask viewMask = ViewMask.of(ids);
+        this.expunge();
+        this.viewMasks.put(new IdentityKey(annotation,
+                                           this.collected),
+                           viewMask);
+        return viewMask;
+    }
+
+    private void expunge() {
+        Reference<? extends Annotation> reference;
+        while ((reference = this.collected.poll()) != null) {
+            this.viewMasks.remove(reference);
+        }
+    }
+
+    /**
+     * <pre>
+     * Tells if the given annotation belongs to any of the views of the given mask,
+     * by testing its cached view mask against the given mask.
+     * Annotations without view attribute belong to the default view.
+     * </pre>
+     *
+     * @param annotation the annotation
+     * @param views      the view mask
+     * @return true if the annotation is in one of the views
+     */
+    public boolean isInAny(final Annotation annotation,
+                           final ViewMask views) {
+        return this.getViewMask(annotation)
+                   .intersects(views);
+    }
+
+    /**
+     * <pre>
+     * Weak key of the view mask cache, comparing the annotations by identity.
+     * The key is removed from the cache once its annotation was collected.
+     * </pre>
+     */
+    private static final class IdentityKey extends WeakReference<Annotation> {
+        private final int hash;
+
+        private IdentityKey(final Annotation annotation,
+                            final ReferenceQueue<Annotation> queue) {
+            super(annotation,
+                  queue);
+            this.hash = System.identityHashCode(annotation);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            final Annotation annotation = this.get();
+            return annotation != null && other instanceof IdentityKey && annotation == ((IdentityKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * <pre>
+     * Short lived key used to look up an annotation in the view mask cache.
+     * </pre>
+     */
+    private static final class IdentityLookup {
+        private final Annotation annotation;
+
+        private IdentityLookup(final Annotation annotation) {
+            this.annotation = annotation;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof IdentityKey && this.annotation == ((IdentityKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.annotation);
+        }
+    }
+}
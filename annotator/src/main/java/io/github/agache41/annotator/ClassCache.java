@@ -0,0 +1,309 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Cache of values computed per class.
+ * The values are stored with a ClassValue, so they live as long as the class they belong to
+ * and do not prevent its class loader from being collected.
+ * Reads do not lock. Values are computed outside of any lock, so the computation can use the cache recursively
+ * for other classes. If two threads compute the value for the same class at the same time,
+ * the first stored value is returned to both.
+ * The cache supports explicit invalidation and an optional size bound.
+ * When the bound is exceeded the oldest values are evicted first.
+ * An optional eviction listener is notified with the class of every value dropped by the cache itself,
+ * so that structures derived from the values can be cleaned up as well. Explicit invalidations are not notified.
+ * Example :
+ * ClassCache{@literal <}ClassAnnotator{@literal <}?{@literal >}{@literal >} cache = new ClassCache{@literal <}{@literal >}(ClassAnnotator::new);
+ * cache.get(MarkedClass.class);
+ * </pre>
+ *
+ * @param <V> the type of the cached values
+ */
+public class ClassCache<V> {
+
+    /**
+     * <pre>
+     * The system property used to configure the default size bound of the caches.
+     * A value of 0 or less means that the caches are not bounded.
+     * </pre>
+     */
+    public static final String MAX_SIZE_PROPERTY = "io.github.agache41.annotator.cache.maxSize";
+
+    /**
+     * <pre>
+     * The default size bound, read from the system property MAX_SIZE_PROPERTY.
+     * </pre>
+     */
+    public static final int DEFAULT_MAX_SIZE = Integer.getInteger(MAX_SIZE_PROPERTY,
+                                                                  0);
+
+    private final Function<Class<?>, V> factory;
+    private final int maxSize;
+    private final Consumer<Class<?>> evictionListener;
+    private final ClassValue<AtomicReference<Entry<V>>> slots = new ClassValue<AtomicReference<Entry<V>>>() {
+        @Override
+        protected AtomicReference<Entry<V>> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    private final Queue<Registration<V>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Set<Class<?>> classes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * <pre>
+     * Instantiates a new ClassCache with the default size bound.
+     * </pre>
+     *
+     * @param factory the factory computing the value for a class
+     */
+    public ClassCache(final Function<Class<?>, V> factory) {
+        this(factory,
+             DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * <pre>
+     * Instantiates a new ClassCache.
+     * </pre>
+     *
+     * @param factory the factory computing the value for a class
+     * @param maxSize the maximum number of values kept, 0 or less for no bound
+     */
+    public ClassCache(final Function<Class<?>, V> factory,
+                      final int maxSize) {
+        this(factory,
+             maxSize,
+             clazz -> {
+             });
+    }
+
+    /**
+     * <pre>
+     * Instantiates a new ClassCache with an eviction listener.
+     * </pre>
+     *
+     * @param factory          the factory computing the value for a class
+     * @param maxSize          the maximum number of values kept, 0 or less for no bound
+     * @param evictionListener the listener notified with the class of every evicted value
+     */
+    public ClassCache(final Function<Class<?>, V> factory,
+                      final int maxSize,
+                      final Consumer<Class<?>> evictionListener) {
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * <pre>
+     * Gets the value for the given class, computing it if needed.
+     * </pre>
+     *
+     * @param clazz the class
+     * @return the value
+     */
+    public V get(final Class<?> clazz) {
+        final AtomicReference<Entry<V>> slot = this.slots.get(clazz);
+        while (true) {
+            final Entry<V> entry = slot.get();
+            final int currentGeneration = this.generation.get();
+            if (entry != null && entry.generation == currentGeneration) {
+                return entry.value;
+            }
+            final Entry<V> newEntry = new Entry<>(clazz,
+                                                  this.factory.apply(clazz),
+                                                  currentGeneration,
+                                                  slot);
+            if (slot.compareAndSet(entry,
+                                   newEntry)) {
+                if (entry != null) {
+                    this.release(entry);
+                }
+                this.classes.add(clazz);
+                this.register(newEntry);
+                return newEntry.value;
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * Gets the value for the given class, if it was already computed.
+     * </pre>
+     *
+     * @param clazz the class
+     * @return the value or null
+     */
+    public V getIfPresent(final Class<?> clazz) {
+        final Entry<V> entry = this.slots.get(clazz)
+                                         .get();
+        if (entry != null && entry.generation == this.generation.get()) {
+            return entry.value;
+        }
+        return null;
+    }
+
+    /**
+     * <pre>
+     * Removes the value computed for the given class.
+     * </pre>
+     *
+     * @param clazz the class
+     */
+    public void invalidate(final Class<?> clazz) {
+        final Entry<V> entry = this.slots.get(clazz)
+                                         .getAndSet(null);
+        if (entry != null) {
+            this.release(entry);
+        }
+    }
+
+    /**
+     * <pre>
+     * Removes all the values from the cache.
+     * The values are dropped when their class is next requested.
+     * </pre>
+     */
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+        Registration<V> registration;
+        while ((registration = this.insertionOrder.poll()) != null) {
+            this.evict(registration);
+        }
+    }
+
+    /**
+     * <pre>
+     * Gets the classes that currently have a value in the cache.
+     * The classes are only weakly referenced by the cache.
+     * </pre>
+     *
+     * @return the classes
+     */
+    public List<Class<?>> getClasses() {
+        final List<Class<?>> classes;
+        synchronized (this.classes) {
+            classes = new ArrayList<>(this.classes);
+        }
+        classes.removeIf(clazz -> this.getIfPresent(clazz) == null);
+        return classes;
+    }
+
+    /**
+     * <pre>
+     * Gets the number of values currently counted against the size bound.
+     * The number is only maintained for bounded caches.
+     * </pre>
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+    private void register(final Entry<V> entry) {
+        if (this.maxSize <= 0) {
+            return;
+        }
+        this.size.incrementAndGet();
+        this.insertionOrder.add(new Registration<>(entry));
+        while (this.size.get() > this.maxSize) {
+            final Registration<V> oldest = this.insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            this.evict(oldest);
+        }
+    }
+
+    private void evict(final Registration<V> registration) {
+        final Entry<V> entry = registration.get();
+        if (entry != null && entry.slot.compareAndSet(entry,
+                                                      null)) {
+            this.evictionListener.accept(entry.clazz);
+        }
+        // a cleared reference means the class was unloaded together with its value
+        this.release(registration.released);
+    }
+
+    private void release(final Entry<V> entry) {
+        this.release(entry.released);
+    }
+
+    private void release(final AtomicBoolean released) {
+        if (this.maxSize > 0 && released.compareAndSet(false,
+                                                       true)) {
+            this.size.decrementAndGet();
+        }
+    }
+
+    /**
+     * <pre>
+     * A cached value, together with its class and the slot holding it.
+     * The entry is only strongly reachable from the class value of its own class.
+     * </pre>
+     *
+     * @param <V> the type of the cached value
+     */
+    private static class Entry<V> {
+        private final Class<?> clazz;
+        private final V value;
+        private final int generation;
+        private final AtomicReference<Entry<V>> slot;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Entry(final Class<?> clazz,
+                      final V value,
+                      final int generation,
+                      final AtomicReference<Entry<V>> slot) {
+            this.clazz = clazz;
+            this.value = value;
+            this.generation = generation;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * <pre>
+     * Weak registration of a cached value in the insertion order, used for eviction.
+     * It shares the released flag with the entry, so the size is kept even after the entry was collected.
+     * </pre>
+     *
+     * @param <V> the type of the cached value
+     */
+    private static class Registration<V> extends WeakReference<Entry<V>> {
+        private final AtomicBoolean released;
+
+        private Registration(final Entry<V> entry) {
+            super(entry);
+            this.released = entry.released;
+        }
+    }
+}
@@ -20,9 +20,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -50,6 +50,7 @@ public class Helper {
      *
      * returns ActualTypeT as Type
      *
+     * The type variables are fully resolved through the hierarchy and the result is memoized, see TypeResolver.
      * </pre>
      *
      * @param clazz            the class where the evaluation is done
@@ -57,22 +58,15 @@ public class Helper {
      * @param paramIndex       the index of the type
      * @return the Actual type
      */
-    public static Type getActualTypeForGenericInterfaceByIndex(Class<?> clazz,
+    public static Type getActualTypeForGenericInterfaceByIndex(final Class<?> clazz,
                                                                final Class<?> genericInterface,
                                                                final int paramIndex) {
-        final String genericTypeName = genericInterface.getTypeName();
-        while (!Object.class.equals(clazz)) {
-            for (final Type genericType : clazz.getGenericInterfaces()) {
-                if (genericType.getTypeName()
-                               .startsWith(genericTypeName)) {
-                    final ParameterizedType parameterizedType = (ParameterizedType) genericType;
-                    final Type[] typeArguments = parameterizedType.getActualTypeArguments();
-                    return typeArguments[paramIndex];
-                }
-            }
-            clazz = clazz.getSuperclass();
+        final Type[] typeArguments = TypeResolver.getTypeArguments(clazz,
+                                                                   genericInterface);
+        if (typeArguments == null || clazz.equals(genericInterface)) {
+            return null;
         }
-        return null;
+        return typeArguments[paramIndex];
     }
 
     /**
@@ -200,26 +194,19 @@ public class Helper {
     /**
      * <pre>
      * Unpack annotation stream.
+     * Container annotations are detected once per annotation type, see AnnotationContainer.
      * </pre>
      *
      * @param a the a
      * @return the stream
      */
     public static Stream<Annotation> unpackAnnotation(final Annotation a) {
-        final Stream<Annotation> singleStream = Stream.of(a);
-        final Class<? extends Annotation> annotationType = a.annotationType();
-        try {
-            // get the method
-            final Method value = annotationType.getMethod("value");
-            // invoke it
-            final Object result = value.invoke(a);
-            if (result != null && result instanceof Annotation[]) {
-                return Stream.of((Annotation[]) result);
-            }
-        } catch (final Exception e) {
-            //
+        final Annotation[] contained = AnnotationContainer.of(a.annotationType())
+                                                          .unpack(a);
+        if (contained != null) {
+            return Stream.of(contained);
         }
-        return singleStream;
+        return Stream.of(a);
     }
 
     /**
@@ -231,9 +218,17 @@ public class Helper {
      * @return the list
      */
     public static List<Annotation> unpackAnnotations(final List<Annotation> input) {
-        return input.stream()
-                    .flatMap(Helper::unpackAnnotation)
-                    .collect(Collectors.toCollection(LinkedList::new));
+        final List<Annotation> result = new LinkedList<>();
+        for (final Annotation annotation : input) {
+            final Annotation[] contained = AnnotationContainer.of(annotation.annotationType())
+                                                              .unpack(annotation);
+            if (contained != null) {
+                Collections.addAll(result, contained);
+            } else {
+                result.add(annotation);
+            }
+        }
+        return result;
     }
 
     /**
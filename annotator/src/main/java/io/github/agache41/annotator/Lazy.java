@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator;
+
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * Value computed exactly once on first use and published safely.
+ * The computation runs under the lock of the lazy value, threads asking for it meanwhile wait for the result.
+ * Example :
+ * private final Lazy{@literal <}List{@literal <}Method{@literal >}{@literal >} methods = Lazy.of(this::methods);
+ * </pre>
+ *
+ * @param <V> the type of the value
+ */
+public final class Lazy<V> implements Supplier<V> {
+    private final Supplier<V> supplier;
+    private volatile V value;
+
+    private Lazy(final Supplier<V> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a Lazy value based on the given supplier.
+     * </pre>
+     *
+     * @param <V>      the type of the value
+     * @param supplier the supplier computing the value, must not return null
+     * @return the lazy value
+     */
+    public static <V> Lazy<V> of(final Supplier<V> supplier) {
+        return new Lazy<>(supplier);
+    }
+
+    /**
+     * <pre>
+     * Gets the value, computing it on first use.
+     * </pre>
+     *
+     * @return the value
+     */
+    @Override
+    public V get() {
+        V value = this.value;
+        if (value == null) {
+            synchronized (this) {
+                value = this.value;
+                if (value == null) {
+                    value = this.supplier.get();
+                    this.value = value;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * <pre>
+     * Tells if the value was already computed.
+     * </pre>
+     *
+     * @return true if the value was computed, false otherwise
+     */
+    public boolean isComputed() {
+        return this.value != null;
+    }
+}
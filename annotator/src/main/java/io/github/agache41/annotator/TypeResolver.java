@@ -0,0 +1,440 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Resolves generic types across the class / interface hierarchy.
+ * For every class the type variables of all its super classes and super interfaces are bound once,
+ * expressed in terms of the type variables of the class itself, and kept in a ClassValue.
+ * The type arguments of a generic super type are memoized per (class, super type).
+ * Example :
+ * public interface Dao{@literal <}E, ID{@literal >}
+ * public abstract class AbstractDao{@literal <}E{@literal >} implements Dao{@literal <}E, Long{@literal >}
+ * public class UserDao extends AbstractDao{@literal <}User{@literal >}
+ *
+ * TypeResolver.getTypeArguments(UserDao.class, Dao.class)         // [User, Long]
+ * TypeResolver.getTypeArgumentClasses(UserDao.class, Dao.class)   // [User.class, Long.class]
+ * </pre>
+ */
+public final class TypeResolver {
+
+    private static final Type[] NO_TYPES = new Type[0];
+
+    private static final ClassValue<Map<TypeVariable<?>, Type>> BINDINGS = new ClassValue<Map<TypeVariable<?>, Type>>() {
+        @Override
+        protected Map<TypeVariable<?>, Type> computeValue(final Class<?> type) {
+            return TypeResolver.bindings(type);
+        }
+    };
+
+    private static final ClassValue<Map<Class<?>, Type[]>> TYPE_ARGUMENTS = new ClassValue<Map<Class<?>, Type[]>>() {
+        @Override
+        protected Map<Class<?>, Type[]> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private TypeResolver() {
+    }
+
+    /**
+     * <pre>
+     * Gets the actual type arguments used by the given class for the given generic super class or super interface.
+     * The type variables are resolved through the whole hierarchy, so the super type can be implemented
+     * indirectly, through other classes or interfaces.
+     * Type variables of the given class itself stay unresolved.
+     * </pre>
+     *
+     * @param clazz            the class
+     * @param genericSupertype the generic super class or super interface
+     * @return the type arguments, or null if the class does not extend or implement the given type
+     */
+    public static Type[] getTypeArguments(final Class<?> clazz,
+                                          final Class<?> genericSupertype) {
+        if (!genericSupertype.isAssignableFrom(clazz)) {
+            return null;
+        }
+        final Type[] typeArguments = TYPE_ARGUMENTS.get(clazz)
+                                                   .computeIfAbsent(genericSupertype,
+                                                                    supertype -> TypeResolver.typeArguments(clazz,
+                                                                                                            supertype));
+        return typeArguments.clone();
+    }
+
+    /**
+     * <pre>
+     * Gets the raw classes of the actual type arguments, see getTypeArguments.
+     * </pre>
+     *
+     * @param clazz            the class
+     * @param genericSupertype the generic super class or super interface
+     * @return the type argument classes, or null if the class does not extend or implement the given type
+     */
+    public static Class<?>[] getTypeArgumentClasses(final Class<?> clazz,
+                                                    final Class<?> genericSupertype) {
+        final Type[] typeArguments = getTypeArguments(clazz,
+                                                      genericSupertype);
+        if (typeArguments == null) {
+            return null;
+        }
+        final Class<?>[] classes = new Class<?>[typeArguments.length];
+        for (int index = 0; index < typeArguments.length; index++) {
+            classes[index] = getRawClass(typeArguments[index]);
+        }
+        return classes;
+    }
+
+    /**
+     * <pre>
+     * Resolves the type variables of the given type, as seen from the given context.
+     * The context is the class, or the parameterized type, through which the type is reached,
+     * for instance the class holding a field declared in a generic super class.
+     * </pre>
+     *
+     * @param type    the type to resolve
+     * @param context the context class or parameterized type
+     * @return the resolved type
+     */
+    public static Type resolve(final Type type,
+                               final Type context) {
+        final Class<?> contextClass = getRawClass(context);
+        Type resolved = substitute(type,
+                                   BINDINGS.get(contextClass));
+        if (context instanceof ParameterizedType) {
+            final TypeVariable<?>[] typeParameters = contextClass.getTypeParameters();
+            final Type[] actualTypeArguments = ((ParameterizedType) context).getActualTypeArguments();
+            final Map<TypeVariable<?>, Type> own = new HashMap<>();
+            for (int index = 0; index < typeParameters.length && index < actualTypeArguments.length; index++) {
+                own.put(typeParameters[index],
+                        actualTypeArguments[index]);
+            }
+            resolved = substitute(resolved,
+                                  own);
+        }
+        return resolved;
+    }
+
+    /**
+     * <pre>
+     * Gets the raw class of the given type.
+     * Type variables and wildcards are reduced to their first upper bound.
+     * </pre>
+     *
+     * @param type the type
+     * @return the raw class
+     */
+    public static Class<?> getRawClass(final Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(getRawClass(((GenericArrayType) type).getGenericComponentType()),
+                                     0)
+                        .getClass();
+        }
+        if (type instanceof TypeVariable) {
+            final Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return bounds.length == 0 ? Object.class : getRawClass(bounds[0]);
+        }
+        if (type instanceof WildcardType) {
+            final Type[] bounds = ((WildcardType) type).getUpperBounds();
+            return bounds.length == 0 ? Object.class : getRawClass(bounds[0]);
+        }
+        throw new IllegalArgumentException(" Unknown type " + type + " !");
+    }
+
+    private static Type[] typeArguments(final Class<?> clazz,
+                                        final Class<?> genericSupertype) {
+        final TypeVariable<?>[] typeParameters = genericSupertype.getTypeParameters();
+        if (typeParameters.length == 0) {
+            return NO_TYPES;
+        }
+        final Map<TypeVariable<?>, Type> bindings = BINDINGS.get(clazz);
+        final Type[] typeArguments = new Type[typeParameters.length];
+        for (int index = 0; index < typeParameters.length; index++) {
+            typeArguments[index] = bindings.getOrDefault(typeParameters[index],
+                                                         typeParameters[index]);
+        }
+        return typeArguments;
+    }
+
+    /**
+     * <pre>
+     * Binds the type variables of all the super types of the given class,
+     * reusing the bindings already computed for the super types.
+     * </pre>
+     */
+    private static Map<TypeVariable<?>, Type> bindings(final Class<?> clazz) {
+        final Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        final Type superclass = clazz.getGenericSuperclass();
+        if (superclass != null) {
+            bind(superclass,
+                 bindings);
+        }
+        for (final Type superinterface : clazz.getGenericInterfaces()) {
+            bind(superinterface,
+                 bindings);
+        }
+        return bindings.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(bindings);
+    }
+
+    private static void bind(final Type supertype,
+                             final Map<TypeVariable<?>, Type> bindings) {
+        final Class<?> rawSupertype = getRawClass(supertype);
+        final Map<TypeVariable<?>, Type> direct = new HashMap<>();
+        if (supertype instanceof ParameterizedType) {
+            final TypeVariable<?>[] typeParameters = rawSupertype.getTypeParameters();
+            final Type[] actualTypeArguments = ((ParameterizedType) supertype).getActualTypeArguments();
+            for (int index = 0; index < typeParameters.length; index++) {
+                direct.put(typeParameters[index],
+                           actualTypeArguments[index]);
+            }
+        }
+        bindings.putAll(direct);
+        for (final Map.Entry<TypeVariable<?>, Type> inherited : BINDINGS.get(rawSupertype)
+                                                                         .entrySet()) {
+            bindings.putIfAbsent(inherited.getKey(),
+                                 substitute(inherited.getValue(),
+                                            direct));
+        }
+    }
+
+    private static Type substitute(final Type type,
+                                   final Map<TypeVariable<?>, Type> bindings) {
+        if (bindings.isEmpty() || type instanceof Class) {
+            return type;
+        }
+        if (type instanceof TypeVariable) {
+            return bindings.getOrDefault(type,
+                                         type);
+        }
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            final Type[] arguments = substitute(parameterizedType.getActualTypeArguments(),
+                                                bindings);
+            if (arguments == null) {
+                return type;
+            }
+            return new ResolvedParameterizedType(parameterizedType.getOwnerType(),
+                                                 parameterizedType.getRawType(),
+                                                 arguments);
+        }
+        if (type instanceof GenericArrayType) {
+            final Type componentType = ((GenericArrayType) type).getGenericComponentType();
+            final Type resolvedComponentType = substitute(componentType,
+                                                          bindings);
+            if (resolvedComponentType == componentType) {
+                return type;
+            }
+            if (resolvedComponentType instanceof Class) {
+                return Array.newInstance((Class<?>) resolvedComponentType,
+                                         0)
+                            .getClass();
+            }
+            return new ResolvedGenericArrayType(resolvedComponentType);
+        }
+        if (type instanceof WildcardType) {
+            final WildcardType wildcardType = (WildcardType) type;
+            final Type[] upperBounds = substitute(wildcardType.getUpperBounds(),
+                                                  bindings);
+            final Type[] lowerBounds = substitute(wildcardType.getLowerBounds(),
+                                                  bindings);
+            if (upperBounds == null && lowerBounds == null) {
+                return type;
+            }
+            return new ResolvedWildcardType(upperBounds == null ? wildcardType.getUpperBounds() : upperBounds,
+                                            lowerBounds == null ? wildcardType.getLowerBounds() : lowerBounds);
+        }
+        return type;
+    }
+
+    /**
+     * <pre>
+     * Substitutes the given types, returning null when none of them changed.
+     * </pre>
+     */
+    private static Type[] substitute(final Type[] types,
+                                     final Map<TypeVariable<?>, Type> bindings) {
+        Type[] result = null;
+        for (int index = 0; index < types.length; index++) {
+            final Type resolved = substitute(types[index],
+                                             bindings);
+            if (resolved != types[index]) {
+                if (result == null) {
+                    result = types.clone();
+                }
+                result[index] = resolved;
+            }
+        }
+        return result;
+    }
+
+    private static String toString(final Type type) {
+        return type instanceof Class ? ((Class<?>) type).getName() : type.toString();
+    }
+
+    private static final class ResolvedParameterizedType implements ParameterizedType {
+        private final Type ownerType;
+        private final Type rawType;
+        private final Type[] actualTypeArguments;
+
+        private ResolvedParameterizedType(final Type ownerType,
+                                          final Type rawType,
+                                          final Type[] actualTypeArguments) {
+            this.ownerType = ownerType;
+            this.rawType = rawType;
+            this.actualTypeArguments = actualTypeArguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return this.actualTypeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return this.rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return this.ownerType;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof ParameterizedType)) {
+                return false;
+            }
+            final ParameterizedType that = (ParameterizedType) other;
+            return Objects.equals(this.ownerType, that.getOwnerType())
+                   && Objects.equals(this.rawType, that.getRawType())
+                   && Arrays.equals(this.actualTypeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.actualTypeArguments) ^ Objects.hashCode(this.ownerType) ^ Objects.hashCode(this.rawType);
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder(TypeResolver.toString(this.rawType));
+            builder.append('<');
+            for (int index = 0; index < this.actualTypeArguments.length; index++) {
+                if (index > 0) {
+                    builder.append(", ");
+                }
+                builder.append(TypeResolver.toString(this.actualTypeArguments[index]));
+            }
+            return builder.append('>')
+                          .toString();
+        }
+    }
+
+    private static final class ResolvedGenericArrayType implements GenericArrayType {
+        private final Type genericComponentType;
+
+        private ResolvedGenericArrayType(final Type genericComponentType) {
+            this.genericComponentType = genericComponentType;
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return this.genericComponentType;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof GenericArrayType && Objects.equals(this.genericComponentType, ((GenericArrayType) other).getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.genericComponentType);
+        }
+
+        @Override
+        public String toString() {
+            return TypeResolver.toString(this.genericComponentType) + "[]";
+        }
+    }
+
+    private static final class ResolvedWildcardType implements WildcardType {
+        private final Type[] upperBounds;
+        private final Type[] lowerBounds;
+
+        private ResolvedWildcardType(final Type[] upperBounds,
+                                     final Type[] lowerBounds) {
+            this.upperBounds = upperBounds;
+            this.lowerBounds = lowerBounds;
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return this.upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return this.lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof WildcardType)) {
+                return false;
+            }
+            final WildcardType that = (WildcardType) other;
+            return Arrays.equals(this.upperBounds, that.getUpperBounds()) && Arrays.equals(this.lowerBounds, that.getLowerBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.upperBounds) ^ Arrays.hashCode(this.lowerBounds);
+        }
+
+        @Override
+        public String toString() {
+            if (this.lowerBounds.length > 0) {
+                return "? super " + TypeResolver.toString(this.lowerBounds[0]);
+            }
+            if (this.upperBounds.length == 0 || Object.class.equals(this.upperBounds[0])) {
+                return "?";
+            }
+            return "? extends " + TypeResolver.toString(this.upperBounds[0]);
+        }
+    }
+}
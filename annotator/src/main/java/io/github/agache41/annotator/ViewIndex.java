@@ -0,0 +1,216 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Index from view name to the annotations of one type of a scope that are available in that view,
+ * with the "default" fallback already applied.
+ * An annotation is available in a view if it is in the default view, has no view attribute, or names the view.
+ * The index is built once per scope and annotation type, see AnnotationMap.getViewIndex,
+ * so resolving a view is a map lookup.
+ * The views of every annotation are also kept as a ViewMask, so the index can be queried by view id
+ * and tested with bitwise operations.
+ * Example :
+ * ViewIndex{@literal <}Column{@literal >} index = annotationMap.getViewIndex(Column.class);
+ * List{@literal <}Column{@literal >} columns = index.get("v1");
+ * List{@literal <}Column{@literal >} sameColumns = index.get(ViewRegistry.idOf("v1"));
+ * </pre>
+ *
+ * @param <A> the annotation type
+ */
+public final class ViewIndex<A extends Annotation> {
+
+    private final List<A> annotations;
+    private final ViewMask[] viewMasks;
+    private final ViewMask viewMask;
+    private final List<A> defaults;
+    private final Map<String, List<A>> byView;
+    private final List<A>[] byViewId;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ViewIndex(final List<A> annotations) {
+        final List<A> defaults = new ArrayList<>(annotations.size());
+        final Map<String, List<A>> byView = new HashMap<>();
+        for (final A annotation : annotations) {
+            final AnnotationView annotationView = AnnotationView.of(annotation.annotationType());
+            if (annotationView.isInDefault(annotation)) {
+                defaults.add(annotation);
+            }
+            final String[] views = annotationView.getViews(annotation);
+            if (views != null) {
+                for (final String view : views) {
+                    if (!AnnotationView.isDefault(view)) {
+                        byView.put(view,
+                                   null);
+                    }
+                }
+            }
+        }
+        // every named view sees its own annotations and the default ones, in scope order
+        for (final String view : byView.keySet()) {
+            final List<A> inView = new ArrayList<>(defaults.size() + 1);
+            for (final A annotation : annotations) {
+                final AnnotationView annotationView = AnnotationView.of(annotation.annotationType());
+                if (annotationView.isInDefault(annotation) || annotationView.isInView(annotation,
+                                                                                      view)) {
+                    inView.add(annotation);
+                }
+            }
+            byView.put(view,
+                       Collections.unmodifiableList(inView));
+        }
+        this.defaults = Collections.unmodifiableList(defaults);
+        this.byView = byView;
+        this.annotations = Collections.unmodifiableList(annotations);
+        this.viewMasks = new ViewMask[annotations.size()];
+        ViewMask viewMask = ViewMask.EMPTY;
+        for (int index = 0; index < this.viewMasks.length; index++) {
+            final A annotation = annotations.get(index);
+            this.viewMasks[index] = AnnotationView.of(annotation.annotationType())
+                                                  .getViewMask(annotation);
+            viewMask = viewMask.or(this.viewMasks[index]);
+        }
+        this.viewMask = viewMask;
+        int maxId = ViewRegistry.DEFAULT_ID;
+        for (final String view : byView.keySet()) {
+            maxId = Math.max(maxId,
+                             ViewRegistry.idOf(view));
+        }
+        this.byViewId = new List[maxId + 1];
+        byView.forEach((view, inView) -> this.byViewId[ViewRegistry.idOf(view)] = inView);
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a ViewIndex over the given annotations of one type.
+     * </pre>
+     *
+     * @param <A>         the annotation type
+     * @param annotations the annotations, in scope order
+     * @return the view index
+     */
+    public static <A extends Annotation> ViewIndex<A> of(final List<A> annotations) {
+        return new ViewIndex<>(annotations);
+    }
+
+    /**
+     * <pre>
+     * Gets the annotations available in the given view, in scope order.
+     * </pre>
+     *
+     * @param view the view name
+     * @return the annotations, empty if there are none
+     */
+    public List<A> get(final String view) {
+        final List<A> inView = this.byView.get(view);
+        return inView != null ? inView : this.defaults;
+    }
+
+    /**
+     * <pre>
+     * Gets the annotations available in the view with the given id, in scope order.
+     * </pre>
+     *
+     * @param viewId the view id, see ViewRegistry
+     * @return the annotations, empty if there are none
+     */
+    public List<A> get(final int viewId) {
+        if (viewId >= 0 && viewId < this.byViewId.length) {
+            final List<A> inView = this.byViewId[viewId];
+            if (inView != null) {
+                return inView;
+            }
+        }
+        return this.defaults;
+    }
+
+    /**
+     * <pre>
+     * Tells if annotations are available in the view with the given id.
+     * </pre>
+     *
+     * @param viewId the view id, see ViewRegistry
+     * @return true if annotations are available
+     */
+    public boolean isAvailableIn(final int viewId) {
+        return !this.get(viewId)
+                    .isEmpty();
+    }
+
+    /**
+     * <pre>
+     * Gets the union of the views of all the annotations.
+     * An annotation type is available in a view if this mask intersects the mask of the view and the default view.
+     * </pre>
+     *
+     * @return the view mask
+     */
+    public ViewMask getViewMask() {
+        return this.viewMask;
+    }
+
+    /**
+     * <pre>
+     * Gets the views of the annotation at the given index of the annotations, see getAnnotations.
+     * </pre>
+     *
+     * @param index the index
+     * @return the view mask
+     */
+    public ViewMask getViewMask(final int index) {
+        return this.viewMasks[index];
+    }
+
+    /**
+     * <pre>
+     * Gets all the indexed annotations, in scope order.
+     * </pre>
+     *
+     * @return the annotations
+     */
+    public List<A> getAnnotations() {
+        return this.annotations;
+    }
+
+    /**
+     * <pre>
+     * Gets the annotations of the default view, in scope order.
+     * </pre>
+     *
+     * @return the annotations
+     */
+    public List<A> getDefaults() {
+        return this.defaults;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "default=" + this.defaults + " " + this.byView;
+    }
+}
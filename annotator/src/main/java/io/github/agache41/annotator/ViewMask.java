@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * Immutable set of view ids stored as a bitmask, one bit per id of the ViewRegistry.
+ * Example :
+ * ViewMask query = ViewMask.of(ViewRegistry.DEFAULT_ID, ViewRegistry.idOf("v1"));
+ * query.intersects(AnnotationView.of(Column.class).getViewMask(column));
+ * </pre>
+ */
+public final class ViewMask {
+
+    /**
+     * <pre>
+     * The empty view mask.
+     * </pre>
+     */
+    public static final ViewMask EMPTY = new ViewMask(new long[0]);
+
+    private final long[] words;
+
+    private ViewMask(final long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a ViewMask holding the given view ids.
+     * </pre>
+     *
+     * @param ids the view ids
+     * @return the view mask
+     */
+    public static ViewMask of(final int... ids) {
+        if (ids.length == 0) {
+            return EMPTY;
+        }
+        int max = 0;
+        for (final int id : ids) {
+            if (id < 0) {
+                throw new IllegalArgumentException(" Invalid view id " + id + " !");
+            }
+            max = Math.max(max, id);
+        }
+        final long[] words = new long[(max >>> 6) + 1];
+        for (final int id : ids) {
+            words[id >>> 6] |= 1L << id;
+        }
+        return new ViewMask(words);
+    }
+
+    /**
+     * <pre>
+     * Tells if the mask holds the given view id.
+     * </pre>
+     *
+     * @param id the view id
+     * @return true if the id is present
+     */
+    public boolean contains(final int id) {
+        final int word = id >>> 6;
+        return id >= 0 && word < this.words.length && (this.words[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * <pre>
+     * Tells if the two masks hold a common view id.
+     * </pre>
+     *
+     * @param other the other mask
+     * @return true if the masks intersect
+     */
+    public boolean intersects(final ViewMask other) {
+        final int length = Math.min(this.words.length, other.words.length);
+        for (int index = 0; index < length; index++) {
+            if ((this.words[index] & other.words[index]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <pre>
+     * Gets the union of the two masks.
+     * </pre>
+     *
+     * @param other the other mask
+     * @return the union
+     */
+    public ViewMask or(final ViewMask other) {
+        if (other.words.length > this.words.length) {
+            return other.or(this);
+        }
+        final long[] words = this.words.clone();
+        for (int index = 0; index < other.words.length; index++) {
+            words[index] |= other.words[index];
+        }
+        return new ViewMask(words);
+    }
+
+    /**
+     * <pre>
+     * Tells if the mask holds no view id.
+     * </pre>
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        for (final long word : this.words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ViewMask)) {
+            return false;
+        }
+        final long[] shorter = this.words.length <= ((ViewMask) other).words.length ? this.words : ((ViewMask) other).words;
+        final long[] longer = shorter == this.words ? ((ViewMask) other).words : this.words;
+        for (int index = 0; index < longer.length; index++) {
+            if (longer[index] != (index < shorter.length ? shorter[index] : 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int length = this.words.length;
+        while (length > 0 && this.words[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.hashCode(Arrays.copyOf(this.words, length));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int id = 0; id < this.words.length << 6; id++) {
+            if (this.contains(id)) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(id);
+            }
+        }
+        return builder.append(']')
+                      .toString();
+    }
+}
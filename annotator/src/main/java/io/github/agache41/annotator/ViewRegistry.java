@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Registry interning the view names to dense integer ids.
+ * The default view (in any letter case) always has the id DEFAULT_ID (0),
+ * the other views get the next free id the first time they are seen.
+ * The ids index the bits of a ViewMask, so the view membership checks are bitwise operations.
+ * Example :
+ * int v1 = ViewRegistry.idOf("v1");
+ * ViewRegistry.nameOf(v1);        // "v1"
+ * ViewRegistry.find("unknown");   // -1, the view is not interned
+ * </pre>
+ */
+public final class ViewRegistry {
+
+    /**
+     * The id of the default view
+     */
+    public static final int DEFAULT_ID = 0;
+
+    /**
+     * The id returned for views that are not registered
+     */
+    public static final int NO_ID = -1;
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static final List<String> names = new ArrayList<>();
+    private static volatile String[] namesById = {AnnotationView.DEFAULT};
+
+    static {
+        names.add(AnnotationView.DEFAULT);
+    }
+
+    private ViewRegistry() {
+    }
+
+    /**
+     * <pre>
+     * Gets the id of the given view, registering the view if needed.
+     * </pre>
+     *
+     * @param view the view name
+     * @return the view id
+     */
+    public static int idOf(final String view) {
+        if (AnnotationView.isDefault(view)) {
+            return DEFAULT_ID;
+        }
+        final Integer id = ids.get(view);
+        if (id != null) {
+            return id;
+        }
+        synchronized (names) {
+            return ids.computeIfAbsent(view,
+                                       name -> {
+                                           names.add(name);
+                                           namesById = names.toArray(new String[0]);
+                                           return names.size() - 1;
+                                       });
+        }
+    }
+
+    /**
+     * <pre>
+     * Gets the id of the given view, without registering it.
+     * </pre>
+     *
+     * @param view the view name
+     * @return the view id, or NO_ID if the view is not registered
+     */
+    public static int find(final String view) {
+        final Integer id = ids.get(view);
+        if (id != null) {
+            return id;
+        }
+        return AnnotationView.isDefault(view) ? DEFAULT_ID : NO_ID;
+    }
+
+    /**
+     * <pre>
+     * Gets the name of the view with the given id.
+     * </pre>
+     *
+     * @param id the view id
+     * @return the view name
+     */
+    public static String nameOf(final int id) {
+        final String[] namesById = ViewRegistry.namesById;
+        if (id < 0 || id >= namesById.length) {
+            throw new IllegalArgumentException(" No view is registered with the id " + id + " !");
+        }
+        return namesById[id];
+    }
+
+    /**
+     * <pre>
+     * Gets the number of registered views, the default view included.
+     * </pre>
+     *
+     * @return the number of views
+     */
+    public static int size() {
+        return namesById.length;
+    }
+}
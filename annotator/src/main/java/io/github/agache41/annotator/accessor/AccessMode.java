@@ -0,0 +1,45 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.accessor;
+
+/**
+ * <pre>
+ * The mode in which an Accessor reads and writes the underlining value.
+ * </pre>
+ */
+public enum AccessMode {
+    /**
+     * <pre>
+     * The getter, setter or field are called by plain java code generated at build time by the annotator-processor module.
+     * </pre>
+     */
+    GENERATED,
+    /**
+     * <pre>
+     * The getter and setter are bound once in functional objects spun by the LambdaMetafactory,
+     * a field is bound once in method handles.
+     * </pre>
+     */
+    COMPILED,
+    /**
+     * <pre>
+     * The getter, setter or field are invoked through the java reflection api.
+     * Used as fallback for members that can not be bound.
+     * </pre>
+     */
+    REFLECTIVE
+}
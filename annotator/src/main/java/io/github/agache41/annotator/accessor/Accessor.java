@@ -16,13 +16,15 @@
 
 package io.github.agache41.annotator.accessor;
 
+import io.github.agache41.annotator.AnnotationMap;
 import io.github.agache41.annotator.Helper;
+import io.github.agache41.annotator.TypeResolver;
 import io.github.agache41.annotator.annotations.Position;
 import io.github.agache41.annotator.annotations.Recurse;
 import io.github.agache41.annotator.annotations.Recursive;
 import io.github.agache41.annotator.annotator.Annotate;
 import io.github.agache41.annotator.annotator.Annotator;
-import org.apache.commons.lang3.StringUtils;
+import io.github.agache41.annotator.annotator.ClassAnnotator;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -32,7 +34,6 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -57,20 +58,27 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
      */
     public static final int NO_POSITION = -1;
     private static final Comparator<Positionable> FIELD_POSITION_COMPARATOR = new PositionComparator();
+    private static final Accessor<?>[] NO_ANCESTORS = new Accessor<?>[0];
     private final Class<T> type;
     private final Type genericType;
+    private final Type resolvedType;
     private final Class<?> declaringClass;
     private final Field field;
     private final Method getter;
     private final Method setter;
+    private final Binding binding;
     private final List<Annotation> annotations;
     private final Set<Class<? extends Annotation>> annotationClasses;
+    private final AnnotationMap annotationMap;
     private final String name;
     private final Accessor<?> parent;
+    private final Accessor<?>[] ancestors;
     private final Map<String, Accessor<?>> children;
     private final boolean leaf;
     private int position;
     private int level;
+    private volatile Instantiator<T> instantiator;
+    private int hash;
 
     /**
      * <pre>
@@ -90,11 +98,17 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         this.declaringClass = declaringClass;
         this.field = field;
         this.parent = null;
+        this.ancestors = NO_ANCESTORS;
+        this.resolvedType = this.resolvedType();
         this.name = field.getName();
         this.getter = this.getter(declaringClass);
         this.setter = this.setter(declaringClass);
+        this.binding = Binding.of(this.field,
+                                  this.getter,
+                                  this.setter);
         this.annotations = this.annotations();
-        this.annotationClasses = this.annotationClasses();
+        this.annotationMap = AnnotationMap.of(this.annotations);
+        this.annotationClasses = this.annotationMap.getTypes();
         this.position = this.position();
         this.level = 0;
         this.leaf = this.leaf();
@@ -111,6 +125,59 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         }
     }
 
+    /**
+     * <pre>
+     * Instantiates a new Accessor from precomputed metadata.
+     * The getter, setter, position and leaf flag are given and not discovered by reflection.
+     * When a generated binding is given, the values are read and written without reflection.
+     * </pre>
+     *
+     * @param type           the type
+     * @param declaringClass the declaring class
+     * @param field          the field
+     * @param getter         the getter, can be null
+     * @param setter         the setter, can be null
+     * @param binding        the generated binding, null to bind the getter, setter or field
+     * @param position       the position
+     * @param leaf           tells if the accessor is a leaf
+     */
+    public Accessor(final Class<T> type,
+                    final Class<?> declaringClass,
+                    final Field field,
+                    final Method getter,
+                    final Method setter,
+                    final Binding binding,
+                    final int position,
+                    final boolean leaf) {
+        this.type = type;
+        this.genericType = field.getGenericType();
+        this.declaringClass = declaringClass;
+        this.field = field;
+        this.parent = null;
+        this.ancestors = NO_ANCESTORS;
+        this.resolvedType = this.resolvedType();
+        this.name = field.getName();
+        this.getter = getter;
+        this.setter = setter;
+        this.binding = binding != null ? binding : Binding.of(this.field,
+                                                              this.getter,
+                                                              this.setter);
+        this.annotations = this.annotations();
+        this.annotationMap = AnnotationMap.of(this.annotations);
+        this.annotationClasses = this.annotationMap.getTypes();
+        this.position = position;
+        this.level = 0;
+        this.leaf = leaf;
+        this.children = new HashMap<>();
+        if (!this.leaf) {
+            this.associate(Annotator
+                                   .of(this.type)
+                                   .getAccessors()
+                                   .filter(Accessor::isAtRootLevel)
+            );
+        }
+    }
+
     /**
      * <pre>
      * Instantiates a new Accessor.
@@ -131,9 +198,15 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         this.genericType = getter.getGenericReturnType();
         this.name = getter.getName();
         this.getter = getter;
+        this.binding = Binding.of(this.field,
+                                  this.getter,
+                                  this.setter);
         this.annotations = this.annotations();
-        this.annotationClasses = this.annotationClasses();
+        this.annotationMap = AnnotationMap.of(this.annotations);
+        this.annotationClasses = this.annotationMap.getTypes();
         this.parent = null;
+        this.ancestors = NO_ANCESTORS;
+        this.resolvedType = this.resolvedType();
         this.leaf = this.leaf();
         this.children = Collections.emptyMap();
     }
@@ -173,18 +246,58 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
                     final Accessor<?> parent,
                     final boolean leaf,
                     final Map<String, Accessor<?>> children) {
+        this(type,
+             genericType,
+             declaringClass,
+             field,
+             getter,
+             setter,
+             Binding.of(field,
+                        getter,
+                        setter),
+             annotations,
+             AnnotationMap.of(annotations),
+             annotationClasses,
+             name,
+             position,
+             level,
+             parent,
+             leaf,
+             children);
+    }
+
+    private Accessor(final Class<T> type,
+                     final Type genericType,
+                     final Class<?> declaringClass,
+                     final Field field,
+                     final Method getter,
+                     final Method setter,
+                     final Binding binding,
+                     final List<Annotation> annotations,
+                     final AnnotationMap annotationMap,
+                     final Set<Class<? extends Annotation>> annotationClasses,
+                     final String name,
+                     final int position,
+                     final int level,
+                     final Accessor<?> parent,
+                     final boolean leaf,
+                     final Map<String, Accessor<?>> children) {
         this.type = type;
         this.genericType = genericType;
         this.declaringClass = declaringClass;
         this.field = field;
         this.getter = getter;
         this.setter = setter;
+        this.binding = binding;
         this.annotations = annotations;
+        this.annotationMap = annotationMap;
         this.annotationClasses = annotationClasses;
         this.name = name;
         this.position = position;
         this.level = level;
         this.parent = parent;
+        this.ancestors = ancestors(parent);
+        this.resolvedType = this.resolvedType();
         this.leaf = leaf;
         this.children = children;
     }
@@ -200,33 +313,39 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         return FIELD_POSITION_COMPARATOR;
     }
 
-    private static String getterNameOf(final String name) {
-        return "get" + StringUtils.capitalize(name);
-    }
-
-    private static String setterNameOf(final String name) {
-        return "set" + StringUtils.capitalize(name);
+    private static Accessor<?>[] ancestors(final Accessor<?> parent) {
+        if (parent == null) {
+            return NO_ANCESTORS;
+        }
+        final Accessor<?>[] ancestors = Arrays.copyOf(parent.ancestors,
+                                                      parent.ancestors.length + 1);
+        ancestors[parent.ancestors.length] = parent;
+        return ancestors;
     }
 
     private Method setter(final Class<?> enclosingClass) {
-        Method setter;
-        try {
-            setter = enclosingClass.getMethod(Accessor.setterNameOf(this.name),
-                                              this.field.getType());
-        } catch (final NoSuchMethodException e) {
-            setter = null;
-        }
-        return setter;
+        return ClassAnnotator.of(enclosingClass)
+                             .getMethodIndex()
+                             .getSetter(this.name,
+                                        this.field.getType());
     }
 
     private Method getter(final Class<?> enclosingClass) {
-        Method getter;
-        try {
-            getter = enclosingClass.getMethod(Accessor.getterNameOf(this.name));
-        } catch (final NoSuchMethodException e) {
-            getter = null;
-        }
-        return getter;
+        return ClassAnnotator.of(enclosingClass)
+                             .getMethodIndex()
+                             .getGetter(this.name,
+                                        this.field.getType());
+    }
+
+    /**
+     * <pre>
+     * Resolves the generic type against the parent accessor, so the type variables of generic embedded types
+     * are bound to the type arguments used by the parent, or against the declaring class for root accessors.
+     * </pre>
+     */
+    private Type resolvedType() {
+        return TypeResolver.resolve(this.genericType,
+                                    this.parent != null ? this.parent.resolvedType : this.declaringClass);
     }
 
     private List<Annotation> annotations() {
@@ -243,23 +362,9 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         return Helper.unpackAnnotations(result);
     }
 
-    private Set<Class<? extends Annotation>> annotationClasses() {
-        return this.annotations
-                .stream()
-                .map(Annotation::annotationType)
-                .collect(Collectors.toSet());
-    }
-
     private int position() {
-        return this.annotations
-                .stream()
-                .filter(annotation -> annotation
-                        .annotationType()
-                        .equals(Position.class))
-                .map(annotation -> (Position) annotation)
-                .map(position -> position.value())
-                .findAny()
-                .orElse(NO_POSITION);
+        final Position position = this.annotationMap.getFirst(Position.class);
+        return position == null ? NO_POSITION : position.value();
     }
 
     /**
@@ -320,11 +425,10 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
             if (levelObject == null) {
                 return null;
             }
-            if (this.getter == null) {
-                return this.field.get(levelObject);
-            }
-            return this.getter.invoke(levelObject);
-        } catch (final ReflectiveOperationException e) {
+            return this.binding.get(levelObject);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
             throw new RuntimeException(e);
         }
     }
@@ -343,31 +447,229 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         try {
             levelObject = this.levelObject(rootObject,
                                            true);
-            if (this.setter == null) {
-                this.field.set(levelObject,
-                               value);
-                return;
+            this.binding.set(levelObject,
+                             value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(this.toString(),
+                                       e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Gets the int value from this accessor, applying it on the given rootObject.
+     * Primitive int fields and getters are read without boxing.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @return the value, or 0 if the value is located in an embedded object that is not set
+     */
+    public int getInt(final Object rootObject) {
+        try {
+            final Object levelObject = this.levelObject(rootObject,
+                                                        false);
+            if (levelObject == null) {
+                return 0;
+            }
+            return this.binding.getInt(levelObject);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Gets the long value from this accessor, applying it on the given rootObject.
+     * Primitive long fields and getters are read without boxing.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @return the value, or 0 if the value is located in an embedded object that is not set
+     */
+    public long getLong(final Object rootObject) {
+        try {
+            final Object levelObject = this.levelObject(rootObject,
+                                                        false);
+            if (levelObject == null) {
+                return 0;
+            }
+            return this.binding.getLong(levelObject);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Gets the double value from this accessor, applying it on the given rootObject.
+     * Primitive double fields and getters are read without boxing.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @return the value, or 0 if the value is located in an embedded object that is not set
+     */
+    public double getDouble(final Object rootObject) {
+        try {
+            final Object levelObject = this.levelObject(rootObject,
+                                                        false);
+            if (levelObject == null) {
+                return 0;
+            }
+            return this.binding.getDouble(levelObject);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Gets the boolean value from this accessor, applying it on the given rootObject.
+     * Primitive boolean fields and getters are read without boxing.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @return the value, or false if the value is located in an embedded object that is not set
+     */
+    public boolean getBoolean(final Object rootObject) {
+        try {
+            final Object levelObject = this.levelObject(rootObject,
+                                                        false);
+            if (levelObject == null) {
+                return false;
             }
-            this.setter.invoke(levelObject,
-                               value);
-        } catch (final Exception e) {
+            return this.binding.getBoolean(levelObject);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Sets the int value through this accessor, applying it on the given rootObject.
+     * Primitive int fields and setters are written without boxing.
+     * Other primitive properties get the value converted like a java cast would.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @param value      the value
+     */
+    public void setInt(final Object rootObject,
+                       final int value) {
+        try {
+            final Object levelObject = this.levelObject(rootObject,
+                                                        true);
+            this.binding.setInt(levelObject,
+                                value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(this.toString(),
+                                       e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Sets the long value through this accessor, applying it on the given rootObject.
+     * Primitive long fields and setters are written without boxing.
+     * Other primitive properties get the value converted like a java cast would.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @param value      the value
+     */
+    public void setLong(final Object rootObject,
+                        final long value) {
+        try {
+            final Object levelObject = this.levelObject(rootObject,
+                                                        true);
+            this.binding.setLong(levelObject,
+                                 value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(this.toString(),
+                                       e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Sets the double value through this accessor, applying it on the given rootObject.
+     * Primitive double fields and setters are written without boxing.
+     * Other primitive properties get the value converted like a java cast would.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @param value      the value
+     */
+    public void setDouble(final Object rootObject,
+                          final double value) {
+        try {
+            final Object levelObject = this.levelObject(rootObject,
+                                                        true);
+            this.binding.setDouble(levelObject,
+                                   value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new RuntimeException(this.toString(),
+                                       e);
+        }
+    }
+
+    /**
+     * <pre>
+     * Sets the boolean value through this accessor, applying it on the given rootObject.
+     * Primitive boolean fields and setters are written without boxing.
+     * Writing it in a numeric property throws an IllegalArgumentException.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @param value      the value
+     */
+    public void setBoolean(final Object rootObject,
+                           final boolean value) {
+        try {
+            final Object levelObject = this.levelObject(rootObject,
+                                                        true);
+            this.binding.setBoolean(levelObject,
+                                    value);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
             throw new RuntimeException(this.toString(),
                                        e);
         }
     }
 
     private Object levelObject(final Object rootObject,
-                               final boolean initializeIfNeeded) throws ReflectiveOperationException {
-        Object levelObject;
-        if (this.parent != null) {
-            levelObject = this.parent.get(rootObject);
-            if (levelObject == null && initializeIfNeeded) {
-                levelObject = this.parent.newInstance(rootObject);
+                               final boolean initializeIfNeeded) throws Throwable {
+        // walk the compiled chain from the root down to the parent of this accessor
+        Object levelObject = rootObject;
+        for (final Accessor<?> ancestor : this.ancestors) {
+            Object nextObject = ancestor.binding.get(levelObject);
+            if (nextObject == null) {
+                if (!initializeIfNeeded) {
+                    return null;
+                }
+                nextObject = ancestor.newValue();
+                ancestor.binding.set(levelObject,
+                                     nextObject);
             }
-            return levelObject;
-        } else {
-            return rootObject;
+            levelObject = nextObject;
         }
+        return levelObject;
     }
 
     /**
@@ -380,14 +682,31 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
      * @throws ReflectiveOperationException the reflective operation exception
      */
     public Object newInstance(final Object rootObject) throws ReflectiveOperationException {
-        final Object initObject = this.type
-                .getConstructor()
-                .newInstance();
+        final Object initObject = this.newValue();
         this.set(rootObject,
                  initObject);
         return initObject;
     }
 
+    /**
+     * <pre>
+     * Creates a new value of the type of this accessor, without setting it.
+     * </pre>
+     *
+     * @return the new value
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    Object newValue() throws ReflectiveOperationException {
+        Instantiator<T> instantiator = this.instantiator;
+        if (instantiator == null) {
+            // ClassAnnotator.of(Class<T>) is keyed by this.type, so its instantiator builds T
+            @SuppressWarnings("unchecked") final ClassAnnotator<T> classAnnotator = ClassAnnotator.of(this.type);
+            instantiator = classAnnotator.getInstantiator();
+            this.instantiator = instantiator;
+        }
+        return instantiator.newInstance();
+    }
+
     private boolean leaf() {
         return !this.annotationClasses.contains(Recurse.class) && !this.type.isAnnotationPresent(Recurse.class);
     }
@@ -432,8 +751,13 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
                                                  //
                                                  this.setter,
                                                  //
+                                                 // the binding is shared, the members are the same
+                                                 this.binding,
+                                                 //
                                                  this.annotations,
                                                  //
+                                                 this.annotationMap,
+                                                 //
                                                  this.annotationClasses,
                                                  //
                                                  parent.getName() + "." + this.field.getName(),
@@ -504,6 +828,34 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         return this.genericType;
     }
 
+    /**
+     * <pre>
+     * Gets the generic type with its type variables resolved through the class hierarchy
+     * and through the parameterized types of the parent accessors.
+     * Example :
+     * class Wrapper{@literal <}V{@literal >} { V value; }
+     * class Entity { {@literal @}Recurse Wrapper{@literal <}String{@literal >} wrapper; }
+     *
+     * Annotator.of(Entity.class).getAccessor("wrapper.value").getResolvedType()   // String.class
+     * </pre>
+     *
+     * @return the resolved type
+     */
+    public Type getResolvedType() {
+        return this.resolvedType;
+    }
+
+    /**
+     * <pre>
+     * Gets the raw class of the resolved type.
+     * </pre>
+     *
+     * @return the resolved class
+     */
+    public Class<?> getResolvedClass() {
+        return TypeResolver.getRawClass(this.resolvedType);
+    }
+
     /**
      * <pre>
      * Gets the field.
@@ -537,6 +889,51 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         return this.setter;
     }
 
+    /**
+     * <pre>
+     * Gets the binding used by this accessor to read and write the value on its level object.
+     * </pre>
+     *
+     * @return the binding
+     */
+    public Binding getBinding() {
+        return this.binding;
+    }
+
+    /**
+     * <pre>
+     * Gets the ancestors of this accessor, ordered from the root level down to the parent.
+     * </pre>
+     *
+     * @return the ancestors
+     */
+    public List<Accessor<?>> getAncestors() {
+        return Collections.unmodifiableList(Arrays.asList(this.ancestors));
+    }
+
+    /**
+     * <pre>
+     * Gets the primitive kind of the accessed value.
+     * Callers can use it to pick the primitive specialized methods once per accessor.
+     * </pre>
+     *
+     * @return the primitive kind
+     */
+    public PrimitiveKind getPrimitiveKind() {
+        return this.binding.getPrimitiveKind();
+    }
+
+    /**
+     * <pre>
+     * Gets the mode in which this accessor reads and writes the value.
+     * </pre>
+     *
+     * @return the access mode
+     */
+    public AccessMode getAccessMode() {
+        return this.binding.getAccessMode();
+    }
+
     /**
      * <pre>
      * Gets the annotations on the underlining field or getter / setter
@@ -548,6 +945,42 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
         return this.annotations;
     }
 
+    /**
+     * <pre>
+     * Gets the annotations of the given type present on the field, setter and getter.
+     * </pre>
+     *
+     * @param <A>             the type parameter
+     * @param annotationClass the annotation class
+     * @return the annotations, empty if there are none
+     */
+    public <A extends Annotation> List<A> getAnnotations(final Class<A> annotationClass) {
+        return this.annotationMap.get(annotationClass);
+    }
+
+    /**
+     * <pre>
+     * Tells if annotations of the given type are present on the field, setter or getter.
+     * </pre>
+     *
+     * @param annotationClass the annotation class
+     * @return true if present, false otherwise
+     */
+    public boolean hasAnnotation(final Class<? extends Annotation> annotationClass) {
+        return this.annotationMap.contains(annotationClass);
+    }
+
+    /**
+     * <pre>
+     * Gets the annotations of this accessor mapped by type.
+     * </pre>
+     *
+     * @return the annotation map
+     */
+    public AnnotationMap getAnnotationMap() {
+        return this.annotationMap;
+    }
+
     /**
      * <pre>
      * Gets annotation of a specific type-
@@ -776,17 +1209,22 @@ public class Accessor<T> implements Positionable, Comparable<Positionable>, Memb
      */
     @Override
     public int hashCode() {
-        //todo: optimize this by saving the hash value.
-        return new HashCodeBuilder(17,
-                                   37)
-                .append(this.type)
-                .append(this.declaringClass)
-                .append(this.field)
-                .append(this.getter)
-                .append(this.setter)
-                .append(this.annotationClasses)
-                .append(this.name)
-                .toHashCode();
+        // the hashed members are final, so the hash is computed once; a racy recomputation yields the same value
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = new HashCodeBuilder(17,
+                                       37)
+                    .append(this.type)
+                    .append(this.declaringClass)
+                    .append(this.field)
+                    .append(this.getter)
+                    .append(this.setter)
+                    .append(this.annotationClasses)
+                    .append(this.name)
+                    .toHashCode();
+            this.hash = hash;
+        }
+        return hash;
     }
 
     /**
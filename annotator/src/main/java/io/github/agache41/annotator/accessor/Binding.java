@@ -0,0 +1,339 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.accessor;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * <pre>
+ * The Binding class holds the resolved access path to a class property, field or getter / setter.
+ * It is created once per Accessor and performs the actual reads and writes on the level object.
+ * </pre>
+ */
+public abstract class Binding {
+
+    private final PrimitiveKind primitiveKind;
+
+    /**
+     * <pre>
+     * Instantiates a new Binding.
+     * </pre>
+     *
+     * @param primitiveKind the primitive kind of the bound value
+     */
+    protected Binding(final PrimitiveKind primitiveKind) {
+        this.primitiveKind = primitiveKind;
+    }
+
+    /**
+     * <pre>
+     * Creates the binding for the given members.
+     * Getters and setters are bound in functional objects spun by the LambdaMetafactory,
+     * fields and members that can not be spun are bound in method handles,
+     * if this fails as well the reflective binding is used.
+     * </pre>
+     *
+     * @param field  the field, can be null
+     * @param getter the getter, can be null
+     * @param setter the setter, can be null
+     * @return the binding
+     */
+    public static Binding of(final Field field,
+                             final Method getter,
+                             final Method setter) {
+        if (LambdaBinding.supports(field,
+                                   getter,
+                                   setter)) {
+            try {
+                return new LambdaBinding(field,
+                                         getter,
+                                         setter);
+            } catch (final IllegalAccessException | LambdaConversionException e) {
+                // the declaring class is not open to this module, the method handles are tried next
+            }
+        }
+        try {
+            return new MethodHandleBinding(field,
+                                           getter,
+                                           setter);
+        } catch (final IllegalAccessException e) {
+            return new ReflectiveBinding(field,
+                                         getter,
+                                         setter);
+        }
+    }
+
+    /**
+     * <pre>
+     * Reads the value from the given object.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @return the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public abstract Object get(Object target) throws Throwable;
+
+    /**
+     * <pre>
+     * Writes the value in the given object.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @param value  the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public abstract void set(Object target,
+                             Object value) throws Throwable;
+
+    /**
+     * <pre>
+     * Gets the access mode of this binding.
+     * </pre>
+     *
+     * @return the access mode
+     */
+    public abstract AccessMode getAccessMode();
+
+    /**
+     * <pre>
+     * Gets the primitive kind of the bound value.
+     * </pre>
+     *
+     * @return the primitive kind
+     */
+    public PrimitiveKind getPrimitiveKind() {
+        return this.primitiveKind;
+    }
+
+    /**
+     * <pre>
+     * Reads the int value from the given object.
+     * The default implementation converts the value returned by get with Number.intValue(),
+     * so any numeric property (byte, short, float, their wrappers ..etc) can be read.
+     * A char is read as its code, a null value as 0.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @return the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public int getInt(final Object target) throws Throwable {
+        final Object value = this.get(target);
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        return ((Number) value).intValue();
+    }
+
+    /**
+     * <pre>
+     * Reads the long value from the given object.
+     * The default implementation converts the value returned by get with Number.longValue(),
+     * so any numeric property (byte, short, float, their wrappers ..etc) can be read.
+     * A char is read as its code, a null value as 0.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @return the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public long getLong(final Object target) throws Throwable {
+        final Object value = this.get(target);
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * <pre>
+     * Reads the double value from the given object.
+     * The default implementation converts the value returned by get with Number.doubleValue(),
+     * so any numeric property (byte, short, float, their wrappers ..etc) can be read.
+     * A char is read as its code, a null value as 0.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @return the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public double getDouble(final Object target) throws Throwable {
+        final Object value = this.get(target);
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    /**
+     * <pre>
+     * Reads the boolean value from the given object.
+     * The default implementation unboxes the value returned by get, a null value is read as false.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @return the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public boolean getBoolean(final Object target) throws Throwable {
+        final Object value = this.get(target);
+        return value != null && (Boolean) value;
+    }
+
+    /**
+     * <pre>
+     * Writes the int value in the given object.
+     * The default implementation converts the value to the primitive kind of the property, like a java cast does,
+     * and calls set. A value for an object property is boxed as it is.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @param value  the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public void setInt(final Object target,
+                       final int value) throws Throwable {
+        this.set(target,
+                 this.convert(value,
+                              "an int"));
+    }
+
+    /**
+     * <pre>
+     * Writes the long value in the given object.
+     * The default implementation converts the value to the primitive kind of the property, like a java cast does,
+     * and calls set. A value for an object property is boxed as it is.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @param value  the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public void setLong(final Object target,
+                        final long value) throws Throwable {
+        this.set(target,
+                 this.convert(value,
+                              "a long"));
+    }
+
+    /**
+     * <pre>
+     * Writes the double value in the given object.
+     * The default implementation converts the value to the primitive kind of the property, like a java cast does,
+     * and calls set. A value for an object property is boxed as it is.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @param value  the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public void setDouble(final Object target,
+                          final double value) throws Throwable {
+        this.set(target,
+                 this.convert(value,
+                              "a double"));
+    }
+
+    /**
+     * <pre>
+     * Writes the boolean value in the given object.
+     * The default implementation boxes the value and calls set.
+     * </pre>
+     *
+     * @param target the object holding the value
+     * @param value  the value
+     * @throws Throwable the throwable raised by the underlining member
+     */
+    public void setBoolean(final Object target,
+                           final boolean value) throws Throwable {
+        if (this.primitiveKind != PrimitiveKind.NONE && this.primitiveKind != PrimitiveKind.BOOLEAN) {
+            throw new IllegalArgumentException(" Can not write a boolean value in a property of type " + this.primitiveKind.getType() + " !");
+        }
+        this.set(target,
+                 value);
+    }
+
+    /**
+     * <pre>
+     * Converts the numeric value to the wrapper of the primitive kind of the property.
+     * </pre>
+     *
+     * @param value       the value
+     * @param description the description of the value type, used in the error message
+     * @return the converted value
+     */
+    private Object convert(final Number value,
+                           final String description) {
+        switch (this.primitiveKind) {
+            case BYTE:
+                return value.byteValue();
+            case CHAR:
+                return (char) value.intValue();
+            case SHORT:
+                return value.shortValue();
+            case INT:
+                return value.intValue();
+            case LONG:
+                return value.longValue();
+            case FLOAT:
+                return value.floatValue();
+            case DOUBLE:
+                return value.doubleValue();
+            case BOOLEAN:
+                throw new IllegalArgumentException(" Can not write " + description + " value in a boolean property !");
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * <pre>
+     * Gets the primitive kind of the value accessed through the given members.
+     * </pre>
+     *
+     * @param field  the field, can be null
+     * @param getter the getter, can be null
+     * @param setter the setter, can be null
+     * @return the primitive kind
+     */
+    static PrimitiveKind primitiveKindOf(final Field field,
+                                         final Method getter,
+                                         final Method setter) {
+        if (getter != null) {
+            return PrimitiveKind.of(getter.getReturnType());
+        }
+        if (field != null) {
+            return PrimitiveKind.of(field.getType());
+        }
+        if (setter != null) {
+            return PrimitiveKind.of(setter.getParameterTypes()[0]);
+        }
+        return PrimitiveKind.NONE;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+
+/**
+ * <pre>
+ * The Instantiator creates new instances of a type using its public no-arg constructor.
+ * The constructor is resolved once and bound in a method handle.
+ * For types that can not be instantiated the failure is computed once and reported on every call.
+ * </pre>
+ *
+ * @param <T> the type parameter
+ */
+public final class Instantiator<T> {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final String failure;
+
+    private Instantiator(final Class<T> type) {
+        this.type = type;
+        MethodHandle constructor = null;
+        String failure = null;
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+            failure = " Type " + type.getSimpleName() + " is not a concrete class and can not be instantiated!";
+        } else {
+            try {
+                constructor = LOOKUP.unreflectConstructor(type.getConstructor())
+                                    .asType(CONSTRUCTOR_TYPE);
+            } catch (final NoSuchMethodException e) {
+                failure = " Type " + type.getSimpleName() + " has no public no-arg constructor!";
+            } catch (final IllegalAccessException e) {
+                failure = " The no-arg constructor of type " + type.getSimpleName() + " is not accessible: " + e.getMessage();
+            }
+        }
+        this.constructor = constructor;
+        this.failure = failure;
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create the Instantiator for the given type.
+     * Prefer the cached instance provided by the ClassAnnotator.
+     * </pre>
+     *
+     * @param <T>  the type parameter
+     * @param type the type
+     * @return the instantiator
+     */
+    public static <T> Instantiator<T> of(final Class<T> type) {
+        return new Instantiator<>(type);
+    }
+
+    /**
+     * <pre>
+     * Gets the instantiated type.
+     * </pre>
+     *
+     * @return the type
+     */
+    public Class<T> getType() {
+        return this.type;
+    }
+
+    /**
+     * <pre>
+     * Tells if the type can be instantiated.
+     * </pre>
+     *
+     * @return true if the type can be instantiated, false otherwise
+     */
+    public boolean canInstantiate() {
+        return this.constructor != null;
+    }
+
+    /**
+     * <pre>
+     * Creates a new instance of the type.
+     * </pre>
+     *
+     * @return the new instance
+     * @throws InstantiationException    if the type can not be instantiated
+     * @throws InvocationTargetException if the constructor throws
+     */
+    public T newInstance() throws InstantiationException, InvocationTargetException {
+        if (this.constructor == null) {
+            throw new InstantiationException(this.failure);
+        }
+        try {
+            // the handle is the no-arg constructor of the type, adapted to return Object
+            @SuppressWarnings("unchecked") final T instance = (T) (Object) this.constructor.invokeExact();
+            return instance;
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Instantiator<" + this.type.getSimpleName() + ">";
+    }
+}
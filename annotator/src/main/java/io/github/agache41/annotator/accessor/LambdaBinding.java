@@ -0,0 +1,336 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.accessor;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <pre>
+ * Binding implementation that spins one functional object per getter / setter with the LambdaMetafactory.
+ * The generated classes call the getter or setter directly, the same way a method reference does,
+ * so the JIT can inline them like any other java code instead of going through a method handle held in a field.
+ * Only getters and setters can be bound this way, accessors that read or write a field use the MethodHandleBinding.
+ * </pre>
+ */
+class LambdaBinding extends Binding {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class,
+                                                                        Object.class);
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class,
+                                                                        Object.class,
+                                                                        Object.class);
+    private final Function<Object, Object> reader;
+    private final BiConsumer<Object, Object> writer;
+    private final ToIntFunction<Object> intReader;
+    private final ObjIntConsumer<Object> intWriter;
+    private final ToLongFunction<Object> longReader;
+    private final ObjLongConsumer<Object> longWriter;
+    private final ToDoubleFunction<Object> doubleReader;
+    private final ObjDoubleConsumer<Object> doubleWriter;
+    private final Predicate<Object> booleanReader;
+
+    /**
+     * <pre>
+     * Instantiates a new LambdaBinding.
+     * </pre>
+     *
+     * @param field  the field
+     * @param getter the getter
+     * @param setter the setter
+     * @throws IllegalAccessException    if the declaring class of one of the members is not open for deep reflection
+     * @throws LambdaConversionException if the functional objects can not be created
+     */
+    LambdaBinding(final Field field,
+                  final Method getter,
+                  final Method setter) throws IllegalAccessException, LambdaConversionException {
+        super(primitiveKindOf(field,
+                              getter,
+                              setter));
+        final PrimitiveKind kind = this.getPrimitiveKind();
+        final MethodHandle getterHandle = getter == null ? null : lookupIn(getter).unreflect(getter);
+        final MethodHandle setterHandle = setter == null ? null : lookupIn(setter).unreflect(setter);
+        this.reader = getter == null ? null : spin(Function.class,
+                                                   "apply",
+                                                   READER_TYPE,
+                                                   getter,
+                                                   getterHandle,
+                                                   ClassUtils.primitiveToWrapper(getter.getReturnType()));
+        this.writer = setter == null ? null : spin(BiConsumer.class,
+                                                   "accept",
+                                                   WRITER_TYPE,
+                                                   setter,
+                                                   setterHandle,
+                                                   void.class,
+                                                   ClassUtils.primitiveToWrapper(setter.getParameterTypes()[0]));
+        // the primitive functional objects keep the exact primitive type and avoid boxing
+        final boolean primitiveGetter = getter != null && kind.isPrimitive() && getter.getReturnType() == kind.getType();
+        final boolean primitiveSetter = setter != null && kind.isPrimitive() && setter.getParameterTypes()[0] == kind.getType();
+        this.intReader = primitiveGetter && kind == PrimitiveKind.INT ? spin(ToIntFunction.class,
+                                                                             "applyAsInt",
+                                                                             MethodType.methodType(int.class,
+                                                                                                   Object.class),
+                                                                             getter,
+                                                                             getterHandle,
+                                                                             int.class) : null;
+        this.longReader = primitiveGetter && kind == PrimitiveKind.LONG ? spin(ToLongFunction.class,
+                                                                               "applyAsLong",
+                                                                               MethodType.methodType(long.class,
+                                                                                                     Object.class),
+                                                                               getter,
+                                                                               getterHandle,
+                                                                               long.class) : null;
+        this.doubleReader = primitiveGetter && kind == PrimitiveKind.DOUBLE ? spin(ToDoubleFunction.class,
+                                                                                   "applyAsDouble",
+                                                                                   MethodType.methodType(double.class,
+                                                                                                         Object.class),
+                                                                                   getter,
+                                                                                   getterHandle,
+                                                                                   double.class) : null;
+        this.booleanReader = primitiveGetter && kind == PrimitiveKind.BOOLEAN ? spin(Predicate.class,
+                                                                                     "test",
+                                                                                     MethodType.methodType(boolean.class,
+                                                                                                           Object.class),
+                                                                                     getter,
+                                                                                     getterHandle,
+                                                                                     boolean.class) : null;
+        this.intWriter = primitiveSetter && kind == PrimitiveKind.INT ? spin(ObjIntConsumer.class,
+                                                                             "accept",
+                                                                             MethodType.methodType(void.class,
+                                                                                                   Object.class,
+                                                                                                   int.class),
+                                                                             setter,
+                                                                             setterHandle,
+                                                                             void.class,
+                                                                             int.class) : null;
+        this.longWriter = primitiveSetter && kind == PrimitiveKind.LONG ? spin(ObjLongConsumer.class,
+                                                                               "accept",
+                                                                               MethodType.methodType(void.class,
+                                                                                                     Object.class,
+                                                                                                     long.class),
+                                                                               setter,
+                                                                               setterHandle,
+                                                                               void.class,
+                                                                               long.class) : null;
+        this.doubleWriter = primitiveSetter && kind == PrimitiveKind.DOUBLE ? spin(ObjDoubleConsumer.class,
+                                                                                   "accept",
+                                                                                   MethodType.methodType(void.class,
+                                                                                                         Object.class,
+                                                                                                         double.class),
+                                                                                   setter,
+                                                                                   setterHandle,
+                                                                                   void.class,
+                                                                                   double.class) : null;
+    }
+
+    /**
+     * <pre>
+     * Tells if the given members can be bound by a LambdaBinding.
+     * Reads must go through an instance getter and writes through an instance setter,
+     * a field that would be used for one of them is left to the MethodHandleBinding.
+     * </pre>
+     *
+     * @param field  the field, can be null
+     * @param getter the getter, can be null
+     * @param setter the setter, can be null
+     * @return true if the members can be bound
+     */
+    static boolean supports(final Field field,
+                            final Method getter,
+                            final Method setter) {
+        if (getter == null && setter == null) {
+            return false;
+        }
+        if (getter == null ? field != null : Modifier.isStatic(getter.getModifiers())) {
+            return false;
+        }
+        return setter == null ? field == null || Modifier.isFinal(field.getModifiers()) : !Modifier.isStatic(setter.getModifiers());
+    }
+
+    private static MethodHandles.Lookup lookupIn(final Method method) throws IllegalAccessException {
+        // the functional object is defined next to the declaring class, so it sees the class through its class loader
+        return MethodHandles.privateLookupIn(method.getDeclaringClass(),
+                                             LOOKUP);
+    }
+
+    private static <F> F spin(final Class<? super F> functionalType,
+                              final String name,
+                              final MethodType samType,
+                              final Method method,
+                              final MethodHandle handle,
+                              final Class<?> returnType,
+                              final Class<?>... parameterTypes) throws IllegalAccessException, LambdaConversionException {
+        final MethodType instantiatedType = MethodType.methodType(returnType,
+                                                                  method.getDeclaringClass(),
+                                                                  parameterTypes);
+        final CallSite site = LambdaMetafactory.metafactory(lookupIn(method),
+                                                            name,
+                                                            MethodType.methodType(functionalType),
+                                                            samType,
+                                                            handle,
+                                                            instantiatedType);
+        try {
+            // the call site was linked for the functional type, F is that type with its type arguments
+            @SuppressWarnings("unchecked") final F function = (F) functionalType.cast(site.getTarget()
+                                                                                          .invoke());
+            return function;
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new LambdaConversionException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(final Object target) throws Throwable {
+        if (this.reader == null) {
+            throw new IllegalAccessException(" No getter available for reading!");
+        }
+        return this.reader.apply(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(final Object target,
+                    final Object value) throws Throwable {
+        if (this.writer == null) {
+            throw new IllegalAccessException(" No setter available for writing!");
+        }
+        this.writer.accept(target,
+                           value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInt(final Object target) throws Throwable {
+        if (this.intReader != null) {
+            return this.intReader.applyAsInt(target);
+        }
+        return super.getInt(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(final Object target) throws Throwable {
+        if (this.longReader != null) {
+            return this.longReader.applyAsLong(target);
+        }
+        return super.getLong(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDouble(final Object target) throws Throwable {
+        if (this.doubleReader != null) {
+            return this.doubleReader.applyAsDouble(target);
+        }
+        return super.getDouble(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(final Object target) throws Throwable {
+        if (this.booleanReader != null) {
+            return this.booleanReader.test(target);
+        }
+        return super.getBoolean(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInt(final Object target,
+                       final int value) throws Throwable {
+        if (this.intWriter != null) {
+            this.intWriter.accept(target,
+                                  value);
+            return;
+        }
+        super.setInt(target,
+                     value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLong(final Object target,
+                        final long value) throws Throwable {
+        if (this.longWriter != null) {
+            this.longWriter.accept(target,
+                                   value);
+            return;
+        }
+        super.setLong(target,
+                      value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDouble(final Object target,
+                          final double value) throws Throwable {
+        if (this.doubleWriter != null) {
+            this.doubleWriter.accept(target,
+                                     value);
+            return;
+        }
+        super.setDouble(target,
+                        value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AccessMode getAccessMode() {
+        return AccessMode.COMPILED;
+    }
+}
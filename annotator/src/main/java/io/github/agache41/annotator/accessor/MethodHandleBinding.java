@@ -0,0 +1,253 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * <pre>
+ * Binding implementation that binds the getter / setter or the field once in method handles.
+ * The handles are adapted to generic signatures, so that the calls are done with invokeExact.
+ * </pre>
+ */
+class MethodHandleBinding extends Binding {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class,
+                                                                        Object.class);
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class,
+                                                                        Object.class,
+                                                                        Object.class);
+    private final MethodHandle reader;
+    private final MethodHandle writer;
+    private final MethodHandle primitiveReader;
+    private final MethodHandle primitiveWriter;
+
+    /**
+     * <pre>
+     * Instantiates a new MethodHandleBinding.
+     * </pre>
+     *
+     * @param field  the field
+     * @param getter the getter
+     * @param setter the setter
+     * @throws IllegalAccessException if one of the members can not be bound
+     */
+    MethodHandleBinding(final Field field,
+                        final Method getter,
+                        final Method setter) throws IllegalAccessException {
+        super(primitiveKindOf(field,
+                              getter,
+                              setter));
+        final MethodHandle reader = reader(field,
+                                           getter);
+        final MethodHandle writer = writer(field,
+                                           setter);
+        this.reader = reader == null ? null : reader.asType(READER_TYPE);
+        this.writer = writer == null ? null : writer.asType(WRITER_TYPE);
+        // the primitive handles keep the exact primitive type and avoid boxing
+        final PrimitiveKind kind = this.getPrimitiveKind();
+        if (kind.isPrimitive()) {
+            this.primitiveReader = reader == null ? null : reader.asType(MethodType.methodType(kind.getType(),
+                                                                                               Object.class));
+            this.primitiveWriter = writer == null ? null : writer.asType(MethodType.methodType(void.class,
+                                                                                               Object.class,
+                                                                                               kind.getType()));
+        } else {
+            this.primitiveReader = null;
+            this.primitiveWriter = null;
+        }
+    }
+
+    private static MethodHandle reader(final Field field,
+                                       final Method getter) throws IllegalAccessException {
+        if (getter != null) {
+            return adapt(LOOKUP.unreflect(getter),
+                         getter);
+        }
+        if (field != null) {
+            return adapt(LOOKUP.unreflectGetter(field),
+                         field);
+        }
+        return null;
+    }
+
+    private static MethodHandle writer(final Field field,
+                                       final Method setter) throws IllegalAccessException {
+        if (setter != null) {
+            return adapt(LOOKUP.unreflect(setter),
+                         setter);
+        }
+        if (field != null && !Modifier.isFinal(field.getModifiers())) {
+            return adapt(LOOKUP.unreflectSetter(field),
+                         field);
+        }
+        return null;
+    }
+
+    private static MethodHandle adapt(final MethodHandle handle,
+                                      final Member member) {
+        if (Modifier.isStatic(member.getModifiers())) {
+            // static members ignore the target object
+            return MethodHandles.dropArguments(handle,
+                                               0,
+                                               member.getDeclaringClass());
+        }
+        return handle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(final Object target) throws Throwable {
+        if (this.reader == null) {
+            throw new IllegalAccessException(" No getter or field available for reading!");
+        }
+        return (Object) this.reader.invokeExact(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(final Object target,
+                    final Object value) throws Throwable {
+        if (this.writer == null) {
+            throw new IllegalAccessException(" No setter or writable field available for writing!");
+        }
+        this.writer.invokeExact(target,
+                                value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInt(final Object target) throws Throwable {
+        if (this.getPrimitiveKind() == PrimitiveKind.INT && this.primitiveReader != null) {
+            return (int) this.primitiveReader.invokeExact(target);
+        }
+        return super.getInt(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(final Object target) throws Throwable {
+        if (this.getPrimitiveKind() == PrimitiveKind.LONG && this.primitiveReader != null) {
+            return (long) this.primitiveReader.invokeExact(target);
+        }
+        return super.getLong(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDouble(final Object target) throws Throwable {
+        if (this.getPrimitiveKind() == PrimitiveKind.DOUBLE && this.primitiveReader != null) {
+            return (double) this.primitiveReader.invokeExact(target);
+        }
+        return super.getDouble(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(final Object target) throws Throwable {
+        if (this.getPrimitiveKind() == PrimitiveKind.BOOLEAN && this.primitiveReader != null) {
+            return (boolean) this.primitiveReader.invokeExact(target);
+        }
+        return super.getBoolean(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInt(final Object target,
+                       final int value) throws Throwable {
+        if (this.getPrimitiveKind() == PrimitiveKind.INT && this.primitiveWriter != null) {
+            this.primitiveWriter.invokeExact(target,
+                                             value);
+            return;
+        }
+        super.setInt(target,
+                     value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLong(final Object target,
+                        final long value) throws Throwable {
+        if (this.getPrimitiveKind() == PrimitiveKind.LONG && this.primitiveWriter != null) {
+            this.primitiveWriter.invokeExact(target,
+                                             value);
+            return;
+        }
+        super.setLong(target,
+                      value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDouble(final Object target,
+                          final double value) throws Throwable {
+        if (this.getPrimitiveKind() == PrimitiveKind.DOUBLE && this.primitiveWriter != null) {
+            this.primitiveWriter.invokeExact(target,
+                                             value);
+            return;
+        }
+        super.setDouble(target,
+                        value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBoolean(final Object target,
+                           final boolean value) throws Throwable {
+        if (this.getPrimitiveKind() == PrimitiveKind.BOOLEAN && this.primitiveWriter != null) {
+            this.primitiveWriter.invokeExact(target,
+                                             value);
+            return;
+        }
+        super.setBoolean(target,
+                         value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AccessMode getAccessMode() {
+        return AccessMode.COMPILED;
+    }
+}
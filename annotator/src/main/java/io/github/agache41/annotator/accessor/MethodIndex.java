@@ -0,0 +1,205 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.accessor;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Index of the public methods of a class, by name.
+ * The index is built once per class from Class.getMethods() and used to resolve
+ * the getters and setters of the properties without throwing NoSuchMethodException
+ * for every property lacking a bean method.
+ * The getters are resolved in the following order:
+ * - getName()
+ * - isName() for boolean properties
+ * - name() as fluent accessor
+ * The setters are resolved in the following order:
+ * - setName(value)
+ * - name(value) as fluent accessor
+ * Like Class.getMethod(), the bridge methods are kept, so a property declared with a type variable
+ * in a generic superclass still finds its setter when a subclass overrides it with a typed parameter.
+ * When a bridge and its target have the same signature, the target is preferred.
+ * Example :
+ * MethodIndex index = MethodIndex.of(MarkedClass.class);
+ * Method getter = index.getGetter("name", String.class);
+ * </pre>
+ */
+public final class MethodIndex {
+
+    private static final Method[] NO_METHODS = new Method[0];
+
+    private final Class<?> clazz;
+    private final Map<String, Method[]> methods;
+
+    private MethodIndex(final Class<?> clazz) {
+        this.clazz = clazz;
+        final Map<String, List<Method>> byName = new HashMap<>();
+        for (final Method method : clazz.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                byName.computeIfAbsent(method.getName(), name -> new ArrayList<>(1))
+                      .add(method);
+            }
+        }
+        final Map<String, Method[]> methods = new HashMap<>(byName.size() * 2);
+        byName.forEach((name, list) -> methods.put(name, list.toArray(NO_METHODS)));
+        this.methods = Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * <pre>
+     * Builds the method index of the given class.
+     * The ClassAnnotator keeps one index per class, see ClassAnnotator.getMethodIndex().
+     * </pre>
+     *
+     * @param clazz the class
+     * @return the method index
+     */
+    public static MethodIndex of(final Class<?> clazz) {
+        return new MethodIndex(clazz);
+    }
+
+    private static boolean isBoolean(final Class<?> type) {
+        return boolean.class.equals(type) || Boolean.class.equals(type);
+    }
+
+    /**
+     * <pre>
+     * Gets the indexed class.
+     * </pre>
+     *
+     * @return the class
+     */
+    public Class<?> getIndexedClass() {
+        return this.clazz;
+    }
+
+    /**
+     * <pre>
+     * Gets the public methods with the given name.
+     * </pre>
+     *
+     * @param name the method name
+     * @return the methods, empty if none
+     */
+    public List<Method> getMethods(final String name) {
+        final Method[] methods = this.methods.get(name);
+        return methods == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(methods));
+    }
+
+    /**
+     * <pre>
+     * Gets the public method with the given name and parameter types.
+     * </pre>
+     *
+     * @param name           the method name
+     * @param parameterTypes the parameter types
+     * @return the method or null
+     */
+    public Method getMethod(final String name,
+                            final Class<?>... parameterTypes) {
+        final Method[] methods = this.methods.get(name);
+        if (methods == null) {
+            return null;
+        }
+        Method found = null;
+        for (final Method method : methods) {
+            if (method.getParameterCount() == parameterTypes.length
+                && Arrays.equals(method.getParameterTypes(), parameterTypes)
+                && (found == null || isPreferred(method,
+                                                 found))) {
+                found = method;
+            }
+        }
+        return found;
+    }
+
+    private static boolean isPreferred(final Method method,
+                                       final Method found) {
+        // like Class.getMethod, prefer the most specific return type, then the method the bridge delegates to
+        if (!found.getReturnType()
+                  .equals(method.getReturnType())) {
+            return found.getReturnType()
+                        .isAssignableFrom(method.getReturnType());
+        }
+        return found.isBridge() || !method.isBridge();
+    }
+
+    /**
+     * <pre>
+     * Gets the getter of the given property.
+     * </pre>
+     *
+     * @param property the property name
+     * @param type     the property type
+     * @return the getter or null
+     */
+    public Method getGetter(final String property,
+                            final Class<?> type) {
+        final String capitalized = StringUtils.capitalize(property);
+        final Method getter = this.getMethod("get" + capitalized);
+        if (getter != null) {
+            return getter;
+        }
+        if (isBoolean(type)) {
+            final Method isGetter = this.getMethod("is" + capitalized);
+            if (isGetter != null && isBoolean(isGetter.getReturnType())) {
+                return isGetter;
+            }
+        }
+        final Method fluent = this.getMethod(property);
+        if (fluent != null && type.equals(fluent.getReturnType())) {
+            return fluent;
+        }
+        return null;
+    }
+
+    /**
+     * <pre>
+     * Gets the setter of the given property.
+     * </pre>
+     *
+     * @param property the property name
+     * @param type     the property type
+     * @return the setter or null
+     */
+    public Method getSetter(final String property,
+                            final Class<?> type) {
+        final Method setter = this.getMethod("set" + StringUtils.capitalize(property),
+                                             type);
+        if (setter != null) {
+            return setter;
+        }
+        final Method fluent = this.getMethod(property,
+                                             type);
+        if (fluent != null && (void.class.equals(fluent.getReturnType()) || fluent.getReturnType()
+                                                                                  .isAssignableFrom(this.clazz))) {
+            return fluent;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.accessor;
+
+import io.github.agache41.annotator.annotations.Recursive;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * <pre>
+ * The Populator writes a row of values in an object graph in one single walk of the accessor tree.
+ * The values are indexed by the position of the leaf accessor in the list the Populator was built with.
+ * Every embedded object on the way is read or created only once per populate call.
+ * Example :
+ * Populator populator = Populator.of(leafAccessors);
+ * populator.populate(root, new Object[]{"f1", "f2", ...});
+ * </pre>
+ */
+public class Populator {
+    private final List<Accessor<?>> accessors;
+    private final Node[] nodes;
+
+    /**
+     * <pre>
+     * Instantiates a new Populator based on the given leaf accessors.
+     * </pre>
+     *
+     * @param accessors the leaf accessors, in the order of the values
+     */
+    public Populator(final List<Accessor<?>> accessors) {
+        this.accessors = Collections.unmodifiableList(new ArrayList<>(accessors));
+        final Node root = new Node(null,
+                                   -1);
+        final Map<Accessor<?>, Node> levelNodes = new IdentityHashMap<>();
+        for (int index = 0; index < this.accessors.size(); index++) {
+            final Accessor<?> accessor = this.accessors.get(index);
+            if (!accessor.isLeaf()) {
+                throw new IllegalArgumentException(" Accessor " + accessor.getName() + " is not a leaf and can not be populated!");
+            }
+            Node levelNode = root;
+            for (final Accessor<?> ancestor : accessor.getAncestors()) {
+                final Node parentNode = levelNode;
+                levelNode = levelNodes.computeIfAbsent(ancestor,
+                                                       acc -> parentNode.add(new Node(acc,
+                                                                                      -1)));
+            }
+            levelNode.add(new Node(accessor,
+                                   index));
+        }
+        this.nodes = root.toArray();
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a Populator based on the given leaf accessors.
+     * </pre>
+     *
+     * @param accessors the leaf accessors, in the order of the values
+     * @return the populator
+     */
+    public static Populator of(final List<Accessor<?>> accessors) {
+        return new Populator(accessors);
+    }
+
+    /**
+     * <pre>
+     * Gets the accessors, in the order of the values.
+     * </pre>
+     *
+     * @return the accessors
+     */
+    public List<Accessor<?>> getAccessors() {
+        return this.accessors;
+    }
+
+    /**
+     * <pre>
+     * Populates the given root object with the given values.
+     * </pre>
+     *
+     * @param <R>        the type parameter
+     * @param rootObject the root object
+     * @param values     the values, indexed as the accessors
+     * @return the root object
+     */
+    public <R> R populate(final R rootObject,
+                          final Object[] values) {
+        if (values.length != this.accessors.size()) {
+            throw new IllegalArgumentException(" Expected " + this.accessors.size() + " values but got " + values.length + "!");
+        }
+        for (final Node node : this.nodes) {
+            node.write(rootObject,
+                       values);
+        }
+        return rootObject;
+    }
+
+    /**
+     * <pre>
+     * Populates the given root object with the values delivered by the given supplier.
+     * </pre>
+     *
+     * @param <R>        the type parameter
+     * @param rootObject the root object
+     * @param values     the value supplier, called with the index of the accessor
+     * @return the root object
+     */
+    public <R> R populate(final R rootObject,
+                          final IntFunction<?> values) {
+        for (final Node node : this.nodes) {
+            node.write(rootObject,
+                       values);
+        }
+        return rootObject;
+    }
+
+    /**
+     * <pre>
+     * A node in the write tree. Leaf nodes hold the index of their value.
+     * </pre>
+     */
+    private static class Node {
+        private final Accessor<?> accessor;
+        private final int index;
+        private final List<Node> childList = new ArrayList<>();
+        private Node[] children;
+
+        private Node(final Accessor<?> accessor,
+                     final int index) {
+            this.accessor = accessor;
+            this.index = index;
+        }
+
+        private Node add(final Node child) {
+            this.childList.add(child);
+            return child;
+        }
+
+        @Recursive
+        private Node[] toArray() {
+            this.children = this.childList.toArray(new Node[0]);
+            for (final Node child : this.children) {
+                child.toArray();
+            }
+            return this.children;
+        }
+
+        @Recursive
+        private void write(final Object target,
+                           final Object[] values) {
+            try {
+                if (this.index >= 0) {
+                    this.accessor.getBinding()
+                                 .set(target,
+                                      values[this.index]);
+                    return;
+                }
+                final Object levelObject = this.levelObject(target);
+                for (final Node child : this.children) {
+                    child.write(levelObject,
+                                values);
+                }
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new RuntimeException(this.accessor.toString(),
+                                           e);
+            }
+        }
+
+        @Recursive
+        private void write(final Object target,
+                           final IntFunction<?> values) {
+            try {
+                if (this.index >= 0) {
+                    this.accessor.getBinding()
+                                 .set(target,
+                                      values.apply(this.index));
+                    return;
+                }
+                final Object levelObject = this.levelObject(target);
+                for (final Node child : this.children) {
+                    child.write(levelObject,
+                                values);
+                }
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new RuntimeException(this.accessor.toString(),
+                                           e);
+            }
+        }
+
+        private Object levelObject(final Object target) throws Throwable {
+            final Binding binding = this.accessor.getBinding();
+            Object levelObject = binding.get(target);
+            if (levelObject == null) {
+                levelObject = this.accessor.newValue();
+                binding.set(target,
+                            levelObject);
+            }
+            return levelObject;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.accessor;
+
+/**
+ * <pre>
+ * The primitive kind of the value accessed by an Accessor.
+ * Callers can use it to pick the primitive specialized read / write methods once per accessor.
+ * Example :
+ * switch (accessor.getPrimitiveKind()) {
+ *     case INT: accessor.setInt(root, resultSet.getInt(column)); break;
+ *     case LONG: accessor.setLong(root, resultSet.getLong(column)); break;
+ *     default: accessor.set(root, resultSet.getObject(column));
+ * }
+ * </pre>
+ */
+public enum PrimitiveKind {
+    /**
+     * The value is an object (not a primitive).
+     */
+    NONE(Object.class),
+    /**
+     * The value is a boolean.
+     */
+    BOOLEAN(boolean.class),
+    /**
+     * The value is a byte.
+     */
+    BYTE(byte.class),
+    /**
+     * The value is a char.
+     */
+    CHAR(char.class),
+    /**
+     * The value is a short.
+     */
+    SHORT(short.class),
+    /**
+     * The value is an int.
+     */
+    INT(int.class),
+    /**
+     * The value is a long.
+     */
+    LONG(long.class),
+    /**
+     * The value is a float.
+     */
+    FLOAT(float.class),
+    /**
+     * The value is a double.
+     */
+    DOUBLE(double.class);
+
+    private final Class<?> type;
+
+    PrimitiveKind(final Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * <pre>
+     * Gets the primitive kind of the given type.
+     * </pre>
+     *
+     * @param type the type
+     * @return the primitive kind, NONE if the type is not primitive
+     */
+    public static PrimitiveKind of(final Class<?> type) {
+        if (type == null || !type.isPrimitive()) {
+            return NONE;
+        }
+        for (final PrimitiveKind kind : values()) {
+            if (kind.type.equals(type)) {
+                return kind;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * <pre>
+     * Gets the type of this primitive kind.
+     * </pre>
+     *
+     * @return the type, Object.class for NONE
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * <pre>
+     * Tells if this kind is a primitive.
+     * </pre>
+     *
+     * @return true if primitive, false otherwise
+     */
+    public boolean isPrimitive() {
+        return this != NONE;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * <pre>
+ * Binding implementation using the java reflection api.
+ * This is the fallback for members that can not be bound in method handles.
+ * </pre>
+ */
+class ReflectiveBinding extends Binding {
+    private final Field field;
+    private final Method getter;
+    private final Method setter;
+
+    /**
+     * <pre>
+     * Instantiates a new ReflectiveBinding.
+     * </pre>
+     *
+     * @param field  the field
+     * @param getter the getter
+     * @param setter the setter
+     */
+    ReflectiveBinding(final Field field,
+                      final Method getter,
+                      final Method setter) {
+        super(primitiveKindOf(field,
+                              getter,
+                              setter));
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(final Object target) throws Throwable {
+        if (this.getter != null) {
+            return this.getter.invoke(target);
+        }
+        if (this.field != null) {
+            return this.field.get(target);
+        }
+        throw new IllegalAccessException(" No getter or field available for reading!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void set(final Object target,
+                    final Object value) throws Throwable {
+        if (this.setter != null) {
+            this.setter.invoke(target,
+                               value);
+            return;
+        }
+        if (this.field != null) {
+            this.field.set(target,
+                           value);
+            return;
+        }
+        throw new IllegalAccessException(" No setter or field available for writing!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInt(final Object target) throws Throwable {
+        if (this.getter == null && this.field != null && this.getPrimitiveKind() == PrimitiveKind.INT) {
+            return this.field.getInt(target);
+        }
+        return super.getInt(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(final Object target) throws Throwable {
+        if (this.getter == null && this.field != null && this.getPrimitiveKind() == PrimitiveKind.LONG) {
+            return this.field.getLong(target);
+        }
+        return super.getLong(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDouble(final Object target) throws Throwable {
+        if (this.getter == null && this.field != null && this.getPrimitiveKind() == PrimitiveKind.DOUBLE) {
+            return this.field.getDouble(target);
+        }
+        return super.getDouble(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(final Object target) throws Throwable {
+        if (this.getter == null && this.field != null && this.getPrimitiveKind() == PrimitiveKind.BOOLEAN) {
+            return this.field.getBoolean(target);
+        }
+        return super.getBoolean(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setInt(final Object target,
+                       final int value) throws Throwable {
+        if (this.setter == null && this.field != null && this.getPrimitiveKind() == PrimitiveKind.INT) {
+            this.field.setInt(target,
+                              value);
+            return;
+        }
+        super.setInt(target,
+                     value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLong(final Object target,
+                        final long value) throws Throwable {
+        if (this.setter == null && this.field != null && this.getPrimitiveKind() == PrimitiveKind.LONG) {
+            this.field.setLong(target,
+                               value);
+            return;
+        }
+        super.setLong(target,
+                      value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDouble(final Object target,
+                          final double value) throws Throwable {
+        if (this.setter == null && this.field != null && this.getPrimitiveKind() == PrimitiveKind.DOUBLE) {
+            this.field.setDouble(target,
+                                 value);
+            return;
+        }
+        super.setDouble(target,
+                        value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setBoolean(final Object target,
+                           final boolean value) throws Throwable {
+        if (this.setter == null && this.field != null && this.getPrimitiveKind() == PrimitiveKind.BOOLEAN) {
+            this.field.setBoolean(target,
+                                  value);
+            return;
+        }
+        super.setBoolean(target,
+                         value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AccessMode getAccessMode() {
+        return AccessMode.REFLECTIVE;
+    }
+}
@@ -16,11 +16,13 @@
 
 package io.github.agache41.annotator.annotator;
 
+import io.github.agache41.annotator.ClassCache;
 import io.github.agache41.annotator.accessor.Accessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
@@ -30,7 +32,7 @@ import java.util.stream.Stream;
  */
 public class AccessorAnnotator implements Annotate<Accessor<?>> {
 
-    private static final Map<Accessor<?>, AccessorAnnotator> accessorAnnotatorMap = new ConcurrentHashMap<>();
+    private static final ClassCache<Map<Accessor<?>, AccessorAnnotator>> accessorAnnotatorCache = new ClassCache<>(clazz -> new ConcurrentHashMap<>());
     private final Accessor<?> accessor;
 
     private AccessorAnnotator(final Accessor<?> accessor) {
@@ -46,7 +48,28 @@ public class AccessorAnnotator implements Annotate<Accessor<?>> {
      * @return the accessor annotator
      */
     public static AccessorAnnotator of(final Accessor<?> field) {
-        return accessorAnnotatorMap.computeIfAbsent(field, AccessorAnnotator::new);
+        return accessorAnnotatorCache.get(field.getDeclaringClass())
+                                      .computeIfAbsent(field, AccessorAnnotator::new);
+    }
+
+    /**
+     * <pre>
+     * Removes the cached annotators of the given class.
+     * </pre>
+     *
+     * @param clazz the class
+     */
+    static void invalidate(final Class<?> clazz) {
+        accessorAnnotatorCache.invalidate(clazz);
+    }
+
+    /**
+     * <pre>
+     * Removes all the cached annotators.
+     * </pre>
+     */
+    static void invalidateAll() {
+        accessorAnnotatorCache.invalidateAll();
     }
 
     /**
@@ -67,6 +90,49 @@ public class AccessorAnnotator implements Annotate<Accessor<?>> {
                 .stream();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> boolean hasAnnotation(final Class<A> clazz) {
+        return this.accessor.getAnnotationMap().contains(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> Stream<A> getAnnotations(final Class<A> clazz) {
+        return this.accessor.getAnnotationMap().get(clazz)
+                                                .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> List<A> getAnnotationsOfType(final Class<A> clazz) {
+        return this.accessor.getAnnotationMap().get(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> List<A> getAnnotationsForView(final Class<A> clazz,
+                                                                 final String view) {
+        return this.accessor.getAnnotationMap().getViewIndex(clazz)
+                                        .get(view);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Annotation> getAnnotationList() {
+        return this.accessor.getAnnotationMap().getAll();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,12 +16,18 @@
 
 package io.github.agache41.annotator.annotator;
 
+import io.github.agache41.annotator.ViewIndex;
 import io.github.agache41.annotator.accessor.Accessor;
 import io.github.agache41.annotator.matcher.Matcher;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -141,6 +147,143 @@ public interface Annotate<T> {
      */
     Accessor<?> getAccessor(String name);
 
+    /**
+     * <pre>
+     * Returns the accessors present in scope as an immutable list, in their natural order.
+     * The default collects the list on every call. The class annotator overrides it with a cached list,
+     * so it can be iterated in hot loops without allocating a stream.
+     * </pre>
+     *
+     * @return the accessor list
+     */
+    default List<Accessor<?>> getAccessorList() {
+        return Collections.unmodifiableList(this.getAccessors()
+                                                .sorted()
+                                                .collect(Collectors.toList()));
+    }
+
+    /**
+     * <pre>
+     * Returns the accessor at the given index of the accessor list.
+     * </pre>
+     *
+     * @param index the index
+     * @return the accessor
+     */
+    default Accessor<?> getAccessor(final int index) {
+        return this.getAccessorList()
+                   .get(index);
+    }
+
+    /**
+     * <pre>
+     * Returns the number of accessors present in scope.
+     * </pre>
+     *
+     * @return the accessor count
+     */
+    default int accessorCount() {
+        return this.getAccessorList()
+                   .size();
+    }
+
+    /**
+     * <pre>
+     * Returns the fields present in scope as an immutable list, ordered by name.
+     * The default collects the list on every call, the class annotator caches it.
+     * </pre>
+     *
+     * @return the field list
+     */
+    default List<Field> getFieldList() {
+        return Collections.unmodifiableList(this.getFields()
+                                                .sorted(Comparator.comparing(Field::getName))
+                                                .collect(Collectors.toList()));
+    }
+
+    /**
+     * <pre>
+     * Returns the methods present in scope as an immutable list, ordered by name and signature.
+     * The default collects the list on every call, the class annotator caches it.
+     * </pre>
+     *
+     * @return the method list
+     */
+    default List<Method> getMethodList() {
+        return Collections.unmodifiableList(this.getMethods()
+                                                .sorted(Comparator.comparing(Method::getName)
+                                                                  .thenComparing(Method::toString))
+                                                .collect(Collectors.toList()));
+    }
+
+    /**
+     * <pre>
+     * Returns the annotations present in scope as an immutable list.
+     * </pre>
+     *
+     * @return the annotation list
+     */
+    default List<Annotation> getAnnotationList() {
+        return Collections.unmodifiableList(this.getAnnotations()
+                                                .collect(Collectors.toList()));
+    }
+
+    /**
+     * <pre>
+     * Performs the given action for each accessor of the accessor list, without allocating a stream.
+     * </pre>
+     *
+     * @param action the action
+     */
+    default void forEachAccessor(final Consumer<? super Accessor<?>> action) {
+        final List<Accessor<?>> accessors = this.getAccessorList();
+        for (int index = 0, size = accessors.size(); index < size; index++) {
+            action.accept(accessors.get(index));
+        }
+    }
+
+    /**
+     * <pre>
+     * Performs the given action for each field of the field list, without allocating a stream.
+     * </pre>
+     *
+     * @param action the action
+     */
+    default void forEachField(final Consumer<? super Field> action) {
+        final List<Field> fields = this.getFieldList();
+        for (int index = 0, size = fields.size(); index < size; index++) {
+            action.accept(fields.get(index));
+        }
+    }
+
+    /**
+     * <pre>
+     * Performs the given action for each method of the method list, without allocating a stream.
+     * </pre>
+     *
+     * @param action the action
+     */
+    default void forEachMethod(final Consumer<? super Method> action) {
+        final List<Method> methods = this.getMethodList();
+        for (int index = 0, size = methods.size(); index < size; index++) {
+            action.accept(methods.get(index));
+        }
+    }
+
+    /**
+     * <pre>
+     * Performs the given action for each annotation present in scope, without allocating a stream.
+     * </pre>
+     *
+     * @param action the action
+     */
+    default void forEachAnnotation(final Consumer<? super Annotation> action) {
+        final List<Annotation> annotations = this.getAnnotationList();
+        for (int index = 0, size = annotations.size(); index < size; index++) {
+            action.accept(annotations.get(index));
+        }
+    }
+
     /**
      * <pre>
      * Implementation of the Object.toString() method
@@ -184,6 +327,39 @@ public interface Annotate<T> {
                                         .annotationType()));
     }
 
+    /**
+     * <pre>
+     * Gets the annotations from the current scope of the given type, as a list.
+     * The annotators precompute the annotations per type, so this is a map lookup without stream.
+     * </pre>
+     *
+     * @param <A>   the generic type parameter
+     * @param clazz the annotation type.
+     * @return the list of annotations
+     */
+    default <A extends Annotation> List<A> getAnnotationsOfType(final Class<A> clazz) {
+        return this.getAnnotations(clazz)
+                   .collect(Collectors.toList());
+    }
+
+    /**
+     * <pre>
+     * Gets the annotations from the current scope of the given type that are available in the given view:
+     * the annotations of the view and the ones of the default view, or without view attribute.
+     * The annotators index the annotations per view once, so this is a map lookup.
+     * </pre>
+     *
+     * @param <A>   the generic type parameter
+     * @param clazz the annotation type.
+     * @param view  the view
+     * @return the list of annotations
+     */
+    default <A extends Annotation> List<A> getAnnotationsForView(final Class<A> clazz,
+                                                                 final String view) {
+        return ViewIndex.of(this.getAnnotationsOfType(clazz))
+                        .get(view);
+    }
+
     /**
      * <pre>
      * Gets the annotations from the current scope that match the given matcher.
@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.annotator;
+
+import io.github.agache41.annotator.accessor.Accessor;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * <pre>
+ * An annotation found on an accessor of a class, as delivered by the registry wide annotation index.
+ * </pre>
+ *
+ * @param <A> the annotation type
+ */
+public final class AnnotatedAccessor<A extends Annotation> {
+    private final Class<?> annotatedClass;
+    private final Accessor<?> accessor;
+    private final A annotation;
+
+    /**
+     * <pre>
+     * Instantiates a new AnnotatedAccessor.
+     * </pre>
+     *
+     * @param annotatedClass the class the accessor belongs to
+     * @param accessor       the accessor
+     * @param annotation     the annotation
+     */
+    AnnotatedAccessor(final Class<?> annotatedClass,
+                      final Accessor<?> accessor,
+                      final A annotation) {
+        this.annotatedClass = annotatedClass;
+        this.accessor = accessor;
+        this.annotation = annotation;
+    }
+
+    /**
+     * <pre>
+     * Gets the class the accessor belongs to.
+     * For accessors of embedded types this is the embedding class.
+     * </pre>
+     *
+     * @return the annotated class
+     */
+    public Class<?> getAnnotatedClass() {
+        return this.annotatedClass;
+    }
+
+    /**
+     * <pre>
+     * Gets the accessor.
+     * </pre>
+     *
+     * @return the accessor
+     */
+    public Accessor<?> getAccessor() {
+        return this.accessor;
+    }
+
+    /**
+     * <pre>
+     * Gets the annotation.
+     * </pre>
+     *
+     * @return the annotation
+     */
+    public A getAnnotation() {
+        return this.annotation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return this.annotatedClass.getSimpleName() + "." + this.accessor.getName() + " " + this.annotation;
+    }
+}
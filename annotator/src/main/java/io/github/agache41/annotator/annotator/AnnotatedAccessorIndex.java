@@ -0,0 +1,214 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.annotator;
+
+import io.github.agache41.annotator.accessor.Accessor;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <pre>
+ * Registry wide reverse index from annotation type to the accessors carrying it, over all the built class annotators.
+ * A class is added when its accessors are built and removed when its annotator is invalidated or evicted.
+ * The result of a query is cached per annotation type until a class carrying that type is added or removed,
+ * so repeated queries return the same list without rebuilding it.
+ * The accessors of a class are stored in a class value of that class, the bucket of an annotation type
+ * in a class value of the annotation type, and the buckets reference the classes weakly.
+ * A cached result references the accessors it lists, so it keeps their classes reachable until it is dropped,
+ * which happens when a class carrying that annotation type is added or removed. Invalidating the classes
+ * of a class loader before discarding it (Annotator.invalidate / invalidateAll) releases them.
+ * </pre>
+ */
+class AnnotatedAccessorIndex {
+    private static final ClassValue<AtomicReference<Map<Class<? extends Annotation>, List<AnnotatedAccessor<?>>>>> entries = new ClassValue<AtomicReference<Map<Class<? extends Annotation>, List<AnnotatedAccessor<?>>>>>() {
+        @Override
+        protected AtomicReference<Map<Class<? extends Annotation>, List<AnnotatedAccessor<?>>>> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    private static final Set<Class<?>> annotationTypes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final ClassValue<Bucket> buckets = new ClassValue<Bucket>() {
+        @Override
+        protected Bucket computeValue(final Class<?> type) {
+            annotationTypes.add(type);
+            return new Bucket(type);
+        }
+    };
+
+    /**
+     * <pre>
+     * Adds the accessors of the given class to the index, replacing the ones added before for it.
+     * </pre>
+     *
+     * @param clazz     the class
+     * @param accessors the accessors of the class
+     */
+    static void register(final Class<?> clazz,
+                         final Collection<Accessor<?>> accessors) {
+        final Map<Class<? extends Annotation>, List<AnnotatedAccessor<?>>> annotatedAccessors = new HashMap<>();
+        for (final Accessor<?> accessor : accessors) {
+            for (final Annotation annotation : accessor.getAnnotations()) {
+                annotatedAccessors.computeIfAbsent(annotation.annotationType(),
+                                                   annotationType -> new ArrayList<>())
+                                  .add(new AnnotatedAccessor<>(clazz,
+                                                               accessor,
+                                                               annotation));
+            }
+        }
+        annotatedAccessors.replaceAll((annotationType, list) -> Collections.unmodifiableList(list));
+        remove(clazz);
+        entries.get(clazz)
+               .set(annotatedAccessors);
+        annotatedAccessors.keySet()
+                          .forEach(annotationType -> buckets.get(annotationType)
+                                                            .add(clazz));
+    }
+
+    /**
+     * <pre>
+     * Removes the accessors of the given class from the index.
+     * </pre>
+     *
+     * @param clazz the class
+     */
+    static void remove(final Class<?> clazz) {
+        final Map<Class<? extends Annotation>, List<AnnotatedAccessor<?>>> annotatedAccessors = entries.get(clazz)
+                                                                                                       .getAndSet(null);
+        if (annotatedAccessors != null) {
+            annotatedAccessors.keySet()
+                              .forEach(annotationType -> buckets.get(annotationType)
+                                                                .remove(clazz));
+        }
+    }
+
+    /**
+     * <pre>
+     * Removes all the accessors from the index.
+     * </pre>
+     */
+    static void clear() {
+        final List<Class<?>> types;
+        synchronized (annotationTypes) {
+            types = new ArrayList<>(annotationTypes);
+        }
+        types.forEach(annotationType -> buckets.get(annotationType)
+                                               .clear());
+    }
+
+    /**
+     * <pre>
+     * Gets the accessors carrying the given annotation type, in all the indexed classes.
+     * </pre>
+     *
+     * @param <A>            the annotation type
+     * @param annotationType the annotation type
+     * @return the annotated accessors
+     */
+    @SuppressWarnings("unchecked")
+    static <A extends Annotation> List<AnnotatedAccessor<A>> get(final Class<A> annotationType) {
+        return (List<AnnotatedAccessor<A>>) (List<?>) buckets.get(annotationType)
+                                                             .get();
+    }
+
+    /**
+     * <pre>
+     * The classes carrying one annotation type, with the cached flattened list of their accessors.
+     * Adding or removing a class drops the cached list and moves the version on,
+     * so a list built while a class was added or removed is not cached.
+     * </pre>
+     */
+    private static class Bucket {
+        private final Class<?> annotationType;
+        private final Set<Class<?>> classes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+        private final AtomicInteger version = new AtomicInteger();
+        private volatile Snapshot snapshot;
+
+        private Bucket(final Class<?> annotationType) {
+            this.annotationType = annotationType;
+        }
+
+        private void add(final Class<?> clazz) {
+            this.classes.add(clazz);
+            this.changed();
+        }
+
+        private void remove(final Class<?> clazz) {
+            if (this.classes.remove(clazz)) {
+                this.changed();
+            }
+        }
+
+        private void clear() {
+            this.classes.clear();
+            this.changed();
+        }
+
+        private synchronized void changed() {
+            this.version.incrementAndGet();
+            this.snapshot = null;
+        }
+
+        private List<AnnotatedAccessor<?>> get() {
+            final int version = this.version.get();
+            final Snapshot snapshot = this.snapshot;
+            if (snapshot != null && snapshot.version == version) {
+                return snapshot.annotatedAccessors;
+            }
+            final List<Class<?>> classes;
+            synchronized (this.classes) {
+                classes = new ArrayList<>(this.classes);
+            }
+            final List<AnnotatedAccessor<?>> flattened = new ArrayList<>();
+            for (final Class<?> clazz : classes) {
+                final Map<Class<? extends Annotation>, List<AnnotatedAccessor<?>>> annotatedAccessors = entries.get(clazz)
+                                                                                                               .get();
+                if (annotatedAccessors != null && annotatedAccessors.containsKey(this.annotationType)) {
+                    flattened.addAll(annotatedAccessors.get(this.annotationType));
+                }
+            }
+            final List<AnnotatedAccessor<?>> annotatedAccessors = Collections.unmodifiableList(flattened);
+            synchronized (this) {
+                // a list built from an older version is returned but not cached
+                if (this.version.get() == version) {
+                    this.snapshot = new Snapshot(version,
+                                                 annotatedAccessors);
+                }
+            }
+            return annotatedAccessors;
+        }
+    }
+
+    /**
+     * <pre>
+     * A flattened list of accessors and the bucket version it was built from.
+     * </pre>
+     */
+    private static class Snapshot {
+        private final int version;
+        private final List<AnnotatedAccessor<?>> annotatedAccessors;
+
+        private Snapshot(final int version,
+                         final List<AnnotatedAccessor<?>> annotatedAccessors) {
+            this.version = version;
+            this.annotatedAccessors = annotatedAccessors;
+        }
+    }
+}
@@ -17,13 +17,11 @@
 package io.github.agache41.annotator.annotator;
 
 import io.github.agache41.annotator.accessor.Accessor;
-import io.github.agache41.annotator.predicate.AreInDefaultOrInView;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * <pre>
@@ -69,6 +67,64 @@ public class Annotator {
     }
     //todo : addMethods for every Type
 
+    /**
+     * <pre>
+     * Removes all the cached annotators built for the given class:
+     * the class annotator and the annotators of its fields, methods and accessors.
+     * Use it when a class is redefined or its application is undeployed.
+     * </pre>
+     *
+     * @param clazz the class
+     */
+    public static void invalidate(final Class<?> clazz) {
+        ClassAnnotator.invalidate(clazz);
+        FieldAnnotator.invalidate(clazz);
+        MethodAnnotator.invalidate(clazz);
+        AccessorAnnotator.invalidate(clazz);
+    }
+
+    /**
+     * <pre>
+     * Removes all the cached annotators.
+     * </pre>
+     */
+    public static void invalidateAll() {
+        ClassAnnotator.invalidateAll();
+        FieldAnnotator.invalidateAll();
+        MethodAnnotator.invalidateAll();
+        AccessorAnnotator.invalidateAll();
+    }
+
+    /**
+     * <pre>
+     * Gets the classes that currently have a cached class annotator, for instance after a warm-up.
+     * </pre>
+     *
+     * @return the classes
+     */
+    public static List<Class<?>> getAnnotatedClasses() {
+        return ClassAnnotator.annotatedClasses();
+    }
+
+    /**
+     * <pre>
+     * Gets the accessors carrying the given annotation type, over all the classes whose accessors were built.
+     * The answer comes from a registry wide index maintained as the accessors are built.
+     * Only materialized classes are covered: Annotator.of(clazz) alone does not build the accessors,
+     * the first accessor query on the class does (getAccessors, getAccessor ..etc), or a warm-up with WarmUp.
+     * The returned list is cached until a class carrying the annotation type is added or removed.
+     * Example :
+     * Annotator.getAccessorsAnnotatedWith(Id.class)   // all the id columns of all the entities
+     * </pre>
+     *
+     * @param <A>            the annotation type
+     * @param annotationType the annotation type
+     * @return the annotated accessors
+     */
+    public static <A extends Annotation> List<AnnotatedAccessor<A>> getAccessorsAnnotatedWith(final Class<A> annotationType) {
+        return AnnotatedAccessorIndex.get(annotationType);
+    }
+
     /**
      * <pre>
      * Gets the annotation available for the given view.
@@ -90,6 +146,7 @@ public class Annotator {
     /**
      * <pre>
      * Gets the annotation available for the given view.
+     * The annotations are resolved per view once for each scope and annotation type, see Annotate.getAnnotationsForView.
      * </pre>
      *
      * @param <M>             the type parameter
@@ -106,9 +163,8 @@ public class Annotator {
                                                                    final boolean throwOnFailure) {
         final List<M> collect = Annotator
                 .of(value)
-                .getAnnotations(annotationClass)
-                .filter(AreInDefaultOrInView.of(view))
-                .collect(Collectors.toList());
+                .getAnnotationsForView(annotationClass,
+                                       view);
         if (collect.isEmpty()) {
             if (throwOnFailure) {
                 throw new RuntimeException("No annotations of type " + annotationClass.getSimpleName() + " where found in default or " + view + " view on " + value.toString());
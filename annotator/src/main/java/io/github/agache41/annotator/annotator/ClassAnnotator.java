@@ -0,0 +1,816 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.annotator;
+
+import io.github.agache41.annotator.AnnotationMap;
+import io.github.agache41.annotator.ClassCache;
+import io.github.agache41.annotator.Helper;
+import io.github.agache41.annotator.TypeResolver;
+import io.github.agache41.annotator.accessor.Accessor;
+import io.github.agache41.annotator.accessor.Instantiator;
+import io.github.agache41.annotator.accessor.MethodIndex;
+import io.github.agache41.annotator.accessor.Populator;
+import io.github.agache41.annotator.matcher.Matcher;
+import io.github.agache41.annotator.metadata.ClassMetadata;
+import io.github.agache41.annotator.metadata.MetadataRegistry;
+import io.github.agache41.annotator.metadata.PropertyMetadata;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * Implementation of the Annotator Pattern (Annotate Interface) for Types (classes).
+ * </pre>
+ *
+ * @param <T> the type parameter
+ */
+public class ClassAnnotator<T> implements Annotate<Class<T>> {
+
+    private static final ClassCache<ClassAnnotator<?>> classAnnotatorCache = new ClassCache<>(ClassAnnotator::new,
+                                                                                             ClassCache.DEFAULT_MAX_SIZE,
+                                                                                             AnnotatedAccessorIndex::remove);
+    private final Class<T> clazz;
+    private volatile Map<String, Field> fields;
+    private volatile Set<Method> methods;
+    private volatile MethodIndex methodIndex;
+    private volatile AnnotationMap annotations;
+    private volatile Map<String, Accessor<?>> accessors;
+    private volatile List<Accessor<?>> accessorList;
+    private volatile List<Field> fieldList;
+    private volatile List<Method> methodList;
+    private volatile Map<Class<? extends Annotation>, List<Accessor<?>>> accessorsByAnnotationType;
+    private volatile Map<Class<? extends Annotation>, List<Field>> fieldsByAnnotationType;
+    private volatile Instantiator<T> instantiator;
+    private volatile Populator populator;
+    private final Map<Class<? extends Annotation>, ViewTable<? extends Annotation>> viewTables = new ConcurrentHashMap<>();
+
+    /**
+     * <pre>
+     * Instantiates a new ClassAnnotator.
+     * The sections (fields, methods, annotations, accessors ..etc) are computed independently on first use.
+     * Each section is computed exactly once, under the lock of the annotator, and published in a volatile field,
+     * so the fast path of a computed section is a single volatile read.
+     * </pre>
+     *
+     * @param clazz the clazz
+     */
+    private ClassAnnotator(final Class<T> clazz) {
+        this.clazz = clazz;
+    }
+
+    private Map<String, Field> fields() {
+        Map<String, Field> fields = this.fields;
+        if (fields == null) {
+            synchronized (this) {
+                fields = this.fields;
+                if (fields == null) {
+                    fields = this.scanFields();
+                    this.fields = fields;
+                }
+            }
+        }
+        return fields;
+    }
+
+    private Set<Method> methods() {
+        Set<Method> methods = this.methods;
+        if (methods == null) {
+            synchronized (this) {
+                methods = this.methods;
+                if (methods == null) {
+                    methods = this.scanMethods();
+                    this.methods = methods;
+                }
+            }
+        }
+        return methods;
+    }
+
+    private MethodIndex methodIndex() {
+        MethodIndex methodIndex = this.methodIndex;
+        if (methodIndex == null) {
+            synchronized (this) {
+                methodIndex = this.methodIndex;
+                if (methodIndex == null) {
+                    methodIndex = MethodIndex.of(this.clazz);
+                    this.methodIndex = methodIndex;
+                }
+            }
+        }
+        return methodIndex;
+    }
+
+    private AnnotationMap annotations() {
+        AnnotationMap annotations = this.annotations;
+        if (annotations == null) {
+            synchronized (this) {
+                annotations = this.annotations;
+                if (annotations == null) {
+                    annotations = this.scanAnnotations();
+                    this.annotations = annotations;
+                }
+            }
+        }
+        return annotations;
+    }
+
+    private Map<String, Accessor<?>> accessors() {
+        Map<String, Accessor<?>> accessors = this.accessors;
+        if (accessors == null) {
+            synchronized (this) {
+                accessors = this.accessors;
+                if (accessors == null) {
+                    accessors = this.scanAccessors();
+                    // registered once, with the accessors that are published
+                    AnnotatedAccessorIndex.register(this.clazz,
+                                                    accessors.values());
+                    this.accessors = accessors;
+                }
+            }
+        }
+        return accessors;
+    }
+
+    private List<Accessor<?>> accessorList() {
+        List<Accessor<?>> accessorList = this.accessorList;
+        if (accessorList == null) {
+            synchronized (this) {
+                accessorList = this.accessorList;
+                if (accessorList == null) {
+                    accessorList = Annotate.super.getAccessorList();
+                    this.accessorList = accessorList;
+                }
+            }
+        }
+        return accessorList;
+    }
+
+    private List<Field> fieldList() {
+        List<Field> fieldList = this.fieldList;
+        if (fieldList == null) {
+            synchronized (this) {
+                fieldList = this.fieldList;
+                if (fieldList == null) {
+                    fieldList = Annotate.super.getFieldList();
+                    this.fieldList = fieldList;
+                }
+            }
+        }
+        return fieldList;
+    }
+
+    private List<Method> methodList() {
+        List<Method> methodList = this.methodList;
+        if (methodList == null) {
+            synchronized (this) {
+                methodList = this.methodList;
+                if (methodList == null) {
+                    methodList = Annotate.super.getMethodList();
+                    this.methodList = methodList;
+                }
+            }
+        }
+        return methodList;
+    }
+
+    private Map<Class<? extends Annotation>, List<Accessor<?>>> accessorsByAnnotationType() {
+        Map<Class<? extends Annotation>, List<Accessor<?>>> accessorsByAnnotationType = this.accessorsByAnnotationType;
+        if (accessorsByAnnotationType == null) {
+            synchronized (this) {
+                accessorsByAnnotationType = this.accessorsByAnnotationType;
+                if (accessorsByAnnotationType == null) {
+                    accessorsByAnnotationType = this.indexAccessorsByAnnotationType();
+                    this.accessorsByAnnotationType = accessorsByAnnotationType;
+                }
+            }
+        }
+        return accessorsByAnnotationType;
+    }
+
+    private Map<Class<? extends Annotation>, List<Field>> fieldsByAnnotationType() {
+        Map<Class<? extends Annotation>, List<Field>> fieldsByAnnotationType = this.fieldsByAnnotationType;
+        if (fieldsByAnnotationType == null) {
+            synchronized (this) {
+                fieldsByAnnotationType = this.fieldsByAnnotationType;
+                if (fieldsByAnnotationType == null) {
+                    fieldsByAnnotationType = this.indexFieldsByAnnotationType();
+                    this.fieldsByAnnotationType = fieldsByAnnotationType;
+                }
+            }
+        }
+        return fieldsByAnnotationType;
+    }
+
+    private Instantiator<T> instantiator() {
+        Instantiator<T> instantiator = this.instantiator;
+        if (instantiator == null) {
+            synchronized (this) {
+                instantiator = this.instantiator;
+                if (instantiator == null) {
+                    instantiator = Instantiator.of(this.clazz);
+                    this.instantiator = instantiator;
+                }
+            }
+        }
+        return instantiator;
+    }
+
+    private Populator populator() {
+        Populator populator = this.populator;
+        if (populator == null) {
+            synchronized (this) {
+                populator = this.populator;
+                if (populator == null) {
+                    populator = this.buildPopulator();
+                    this.populator = populator;
+                }
+            }
+        }
+        return populator;
+    }
+
+    private Map<String, Field> scanFields() {
+        final Map<String, Field> fields = new HashMap<>();
+        Class<?> classType = this.clazz;
+        while (classType != null && (!classType.equals(Object.class))) {
+            for (final Field field : classType.getDeclaredFields()) {
+                fields.put(field.getName(), field);
+            }
+            classType = classType.getSuperclass();
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+
+    private Set<Method> scanMethods() {
+        final Set<Method> methods = new HashSet<>();
+        Class<?> classType = this.clazz;
+        while (classType != null && (!classType.equals(Object.class))) {
+            Collections.addAll(methods, classType.getDeclaredMethods());
+            classType = classType.getSuperclass();
+        }
+        return Collections.unmodifiableSet(methods);
+    }
+
+    private AnnotationMap scanAnnotations() {
+        final List<Annotation> annotations = new ArrayList<>();
+        Class<?> classType = this.clazz;
+        while (classType != null && (!classType.equals(Object.class))) {
+            annotations.addAll(Helper.unpackAnnotations(Stream.of(classType.getDeclaredAnnotations()))
+                                     .collect(Collectors.toList()));
+            classType = classType.getSuperclass();
+        }
+        return AnnotationMap.of(annotations);
+    }
+
+    private Map<String, Accessor<?>> scanAccessors() {
+        final Map<String, Accessor<?>> accessors = new HashMap<>();
+        final ClassMetadata metadata = this.clazz.isAnnotation() ? null : MetadataRegistry.of(this.clazz);
+        if (metadata != null && this.accessors(metadata,
+                                               accessors)) {
+            return Collections.unmodifiableMap(accessors);
+        }
+        accessors.clear();
+        if (!this.clazz.isAnnotation()) {
+            final Map<String, Field> fields = this.fields();
+            fields.keySet()
+                  .stream()
+                  .map(fieldName -> new Accessor<>(  //
+                                                     fields.get(fieldName) //
+                                                           .getType(),
+                                                     this.clazz,//
+                                                     fields.get(fieldName)))//
+                  .flatMap(Accessor::expand)
+                  .forEach(accessor -> accessors.put(accessor.getName(), accessor));
+        } else {
+            this.methods()
+                    .stream()
+                    .map(method -> new Accessor<>(method.getReturnType(), this.clazz, method))
+                    .flatMap(Accessor::expand)
+                    .forEach(accessor -> accessors.put(accessor.getName(), accessor));
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    /**
+     * <pre>
+     * Builds the accessors from the precomputed metadata.
+     * The described fields, getters and setters are looked up by name, the class hierarchy is not scanned.
+     * Only when the metadata is not complete, the fields it does not describe are scanned with reflection.
+     * </pre>
+     *
+     * @param metadata  the metadata
+     * @param accessors the accessors map to fill
+     * @return false if the metadata does not match the class, and the class has to be scanned with reflection.
+     */
+    private boolean accessors(final ClassMetadata metadata,
+                              final Map<String, Accessor<?>> accessors) {
+        for (final PropertyMetadata property : metadata.getProperties()) {
+            final Field field = this.field(property);
+            if (field == null) {
+                return false;
+            }
+            final Method getter;
+            final Method setter;
+            try {
+                getter = property.getGetterName() == null ? null : this.clazz.getMethod(property.getGetterName());
+                setter = property.getSetterName() == null ? null : this.clazz.getMethod(property.getSetterName(),
+                                                                                        field.getType());
+            } catch (final NoSuchMethodException e) {
+                return false;
+            }
+            new Accessor<>(field.getType(),
+                           this.clazz,
+                           field,
+                           getter,
+                           setter,
+                           property.getBinding(),
+                           property.getPosition(),
+                           !property.isRecurse())
+                    .expand()
+                    .forEach(accessor -> accessors.put(accessor.getName(), accessor));
+        }
+        if (metadata.isComplete()) {
+            return true;
+        }
+        final Set<String> described = metadata.getProperties()
+                                              .stream()
+                                              .map(PropertyMetadata::getName)
+                                              .collect(Collectors.toSet());
+        this.fields()
+                   .values()
+                   .stream()
+                   .filter(field -> !described.contains(field.getName()))
+                   .map(field -> new Accessor<>(field.getType(),
+                                                this.clazz,
+                                                field))
+                   .flatMap(Accessor::expand)
+                   .forEach(accessor -> accessors.put(accessor.getName(), accessor));
+        return true;
+    }
+
+    /**
+     * <pre>
+     * Looks up the field of the property in its declaring class, found by name in the class hierarchy.
+     * </pre>
+     *
+     * @param property the property
+     * @return the field, or null if the class does not declare it
+     */
+    private Field field(final PropertyMetadata property) {
+        Class<?> classType = this.clazz;
+        while (classType != null && !classType.getName()
+                                              .equals(property.getDeclaringClassName())) {
+            classType = classType.getSuperclass();
+        }
+        if (classType == null) {
+            return null;
+        }
+        try {
+            return classType.getDeclaredField(property.getName());
+        } catch (final NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private Map<Class<? extends Annotation>, List<Accessor<?>>> indexAccessorsByAnnotationType() {
+        final Map<Class<? extends Annotation>, List<Accessor<?>>> index = new HashMap<>();
+        for (final Accessor<?> accessor : this.getAccessorList()) {
+            for (final Class<? extends Annotation> type : accessor.getAnnotationMap()
+                                                                  .getTypes()) {
+                index.computeIfAbsent(type, key -> new ArrayList<>())
+                     .add(accessor);
+            }
+        }
+        return index;
+    }
+
+    private Map<Class<? extends Annotation>, List<Field>> indexFieldsByAnnotationType() {
+        final Map<Class<? extends Annotation>, List<Field>> index = new HashMap<>();
+        for (final Field field : this.getFieldList()) {
+            for (final Annotation annotation : FieldAnnotator.of(field)
+                                                             .getAnnotationList()) {
+                final List<Field> fields = index.computeIfAbsent(annotation.annotationType(), key -> new ArrayList<>());
+                if (fields.isEmpty() || fields.get(fields.size() - 1) != field) {
+                    fields.add(field);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * <pre>
+     * Gets the candidates for a matcher from the given index by annotation type.
+     * </pre>
+     *
+     * @param index   the index by annotation type
+     * @param matcher the matcher
+     * @return the candidates, or null if the matcher does not require any annotation type
+     */
+    private static <E> Collection<E> candidates(final Map<Class<? extends Annotation>, List<E>> index,
+                                                final Matcher<Object, ?> matcher) {
+        final Set<Class<? extends Annotation>> types = matcher.requiredAnnotationTypes();
+        if (types == null) {
+            return null;
+        }
+        if (types.size() == 1) {
+            return index.getOrDefault(types.iterator()
+                                           .next(), Collections.emptyList());
+        }
+        final Set<E> candidates = new LinkedHashSet<>();
+        for (final Class<? extends Annotation> type : types) {
+            candidates.addAll(index.getOrDefault(type, Collections.emptyList()));
+        }
+        return candidates;
+    }
+
+    private Populator buildPopulator() {
+        return Populator.of(this.getAccessors()
+                                .filter(Accessor::isLeaf)
+                                .sorted()
+                                .collect(Collectors.toList()));
+    }
+
+    /**
+     * <pre>
+     * Gets the index of the public methods of the class, used to resolve the getters and setters of the accessors.
+     * </pre>
+     *
+     * @return the method index
+     */
+    public MethodIndex getMethodIndex() {
+        return this.methodIndex();
+    }
+
+    /**
+     * <pre>
+     * Creates the Annotator based on the given Class.
+     * The annotators are cached per class in a ClassCache.
+     * The lookup of an already created annotator does not lock.
+     * A missing annotator is built outside of any lock, so the @Recurse expansion can re-enter this method
+     * for the embedded types and threads building unrelated classes do not wait on each other.
+     * If two threads build the same class at the same time, the first published annotator wins
+     * and is returned to both.
+     * </pre>
+     *
+     * @param <T>   the type parameter
+     * @param clazz the clazz
+     * @return the class annotator
+     */
+    public static <T> ClassAnnotator of(final Class<T> clazz) {
+        return classAnnotatorCache.get(clazz);
+    }
+
+    /**
+     * <pre>
+     * Removes the cached annotators of the given class.
+     * </pre>
+     *
+     * @param clazz the class
+     */
+    static void invalidate(final Class<?> clazz) {
+        classAnnotatorCache.invalidate(clazz);
+        AnnotatedAccessorIndex.remove(clazz);
+    }
+
+    /**
+     * <pre>
+     * Removes all the cached annotators.
+     * </pre>
+     */
+    static void invalidateAll() {
+        classAnnotatorCache.invalidateAll();
+        AnnotatedAccessorIndex.clear();
+    }
+
+    /**
+     * <pre>
+     * Gets the classes that currently have a cached annotator.
+     * </pre>
+     *
+     * @return the classes
+     */
+    static List<Class<?>> annotatedClasses() {
+        return classAnnotatorCache.getClasses();
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<T> get() {
+        return this.clazz;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Annotation> getAnnotations() {
+        return this.annotations()
+                               .getAll()
+                               .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> boolean hasAnnotation(final Class<A> clazz) {
+        return this.annotations().contains(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> Stream<A> getAnnotations(final Class<A> clazz) {
+        return this.annotations().get(clazz)
+                                      .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> List<A> getAnnotationsOfType(final Class<A> clazz) {
+        return this.annotations().get(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> List<A> getAnnotationsForView(final Class<A> clazz,
+                                                                 final String view) {
+        return this.annotations().getViewIndex(clazz)
+                              .get(view);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> A getAnnotation(final Class<A> annotationClass,
+                                                  final boolean throwOnFailure) {
+        final A annotation = this.clazz.getAnnotation(annotationClass);
+        if (throwOnFailure && annotation == null) {
+            throw new RuntimeException("No annotations of type " + annotationClass.getSimpleName() + " where found on class " + this.clazz.getSimpleName());
+        }
+        return annotation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <I> Class<?>[] getParameterizedTypesForImplementedInterface(final Class<I> implementedInterface,
+                                                                       final boolean throwOnFailure) {
+        final Class<?>[] classes = this.clazz.equals(implementedInterface) ? null : TypeResolver.getTypeArgumentClasses(this.clazz,
+                                                                                                                        implementedInterface);
+        if (classes == null && throwOnFailure) {
+            throw new RuntimeException(" Interface " + implementedInterface.getSimpleName() + " was not implemented in class" + this.clazz.getSimpleName() + "!");
+        }
+        return classes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Field> getFields() {
+        return this.fields()
+                .values()
+                .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field getField(final String name) {
+        return this.fields()
+                          .get(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Method> getMethods() {
+        return this.methods()
+                           .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Accessor<?>> getAccessors() {
+        return this.accessors()
+                .values()
+                .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Accessor<?> getAccessor(final String name) {
+        final Accessor<?> accessor = this.accessors()
+                                                   .get(name);
+        if (accessor == null) {
+            throw new IllegalArgumentException("No such method or field " + name + " in " + this.clazz.getSimpleName() + "!");
+        }
+        return accessor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Accessor<?>> getAccessorList() {
+        return this.accessorList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Accessor<?> getAccessor(final int index) {
+        return this.accessorList()
+                                .get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int accessorCount() {
+        return this.accessorList()
+                                .size();
+    }
+
+    /**
+     * <pre>
+     * Gets the fields that match the given matcher.
+     * When the matcher requires annotation types (like HaveAnnotation), the candidates are taken
+     * from an index of the fields by annotation type and the matcher is only evaluated on them.
+     * </pre>
+     *
+     * @param matcher the matcher
+     * @return the stream of fields
+     */
+    @Override
+    public Stream<Field> getFieldsThat(final Matcher<Object, ?> matcher) {
+        final Collection<Field> candidates = candidates(this.fieldsByAnnotationType(),
+                                                        matcher);
+        if (candidates == null) {
+            return Annotate.super.getFieldsThat(matcher);
+        }
+        return candidates.stream()
+                         .filter(matcher::matches);
+    }
+
+    /**
+     * <pre>
+     * Gets the accessors that match the given matcher.
+     * When the matcher requires annotation types (like HaveAnnotation), the candidates are taken
+     * from an index of the accessors by annotation type and the matcher is only evaluated on them,
+     * so the cost follows the number of candidates and not the number of accessors.
+     * Example :
+     * ClassAnnotator.of(Entity.class)
+     *               .getAccessorsThat(HaveAnnotation.ofType(Column.class)
+     *                                               .that(AreInDefaultOrInViewId.of(view)))
+     * </pre>
+     *
+     * @param matcher the matcher
+     * @return the stream of accessors
+     */
+    @Override
+    public Stream<Accessor<?>> getAccessorsThat(final Matcher<Object, ?> matcher) {
+        final Collection<Accessor<?>> candidates = candidates(this.accessorsByAnnotationType(),
+                                                              matcher);
+        if (candidates == null) {
+            return Annotate.super.getAccessorsThat(matcher);
+        }
+        return candidates.stream()
+                         .filter(matcher::matches);
+    }
+
+    /**
+     * <pre>
+     * Gets the table resolving the given annotation type for all the accessors in all the views.
+     * The rows follow the accessor list, the columns the view ids of the ViewRegistry.
+     * The table is computed on first use and cached per annotation type.
+     * Example :
+     * ViewTable{@literal <}Column{@literal >} columns = ClassAnnotator.of(Entity.class).getViewTable(Column.class);
+     * Column column = columns.get(accessorIndex, ViewRegistry.idOf("v1"));
+     * </pre>
+     *
+     * @param <A>            the annotation type
+     * @param annotationType the annotation type
+     * @return the view table
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Annotation> ViewTable<A> getViewTable(final Class<A> annotationType) {
+        return (ViewTable<A>) this.viewTables.computeIfAbsent(annotationType,
+                                                              type -> ViewTable.of(annotationType,
+                                                                                   this.getAccessorList()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Field> getFieldList() {
+        return this.fieldList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Method> getMethodList() {
+        return this.methodList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Annotation> getAnnotationList() {
+        return this.annotations()
+                               .getAll();
+    }
+
+    /**
+     * <pre>
+     * Gets the Instantiator for this class.
+     * The instantiator is resolved once and cached.
+     * </pre>
+     *
+     * @return the instantiator
+     */
+    public Instantiator<T> getInstantiator() {
+        return this.instantiator();
+    }
+
+    /**
+     * <pre>
+     * Gets the Populator for the leaf accessors of this class, ordered by position.
+     * The populator is built once and cached.
+     * </pre>
+     *
+     * @return the populator
+     */
+    public Populator getPopulator() {
+        return this.populator();
+    }
+
+    /**
+     * <pre>
+     * Populates the given root object with the given values in one walk of the accessor tree.
+     * The values are indexed as the leaf accessors of this class, ordered by position.
+     * </pre>
+     *
+     * @param rootObject the root object
+     * @param values     the values
+     * @return the root object
+     */
+    public T populate(final T rootObject,
+                      final Object... values) {
+        return this.getPopulator()
+                   .populate(rootObject,
+                             values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Class<" + this.clazz.getSimpleName() + ">";
+    }
+}
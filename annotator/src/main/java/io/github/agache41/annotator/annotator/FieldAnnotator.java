@@ -16,12 +16,16 @@
 
 package io.github.agache41.annotator.annotator;
 
+import io.github.agache41.annotator.AnnotationMap;
+import io.github.agache41.annotator.ClassCache;
 import io.github.agache41.annotator.Helper;
 import io.github.agache41.annotator.accessor.Accessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
@@ -33,11 +37,13 @@ import java.util.stream.Stream;
  */
 public class FieldAnnotator implements Annotate<Field> {
 
-    private static final Map<Field, FieldAnnotator> fieldAnnotatorMap = new ConcurrentHashMap<>();
+    private static final ClassCache<Map<Field, FieldAnnotator>> fieldAnnotatorCache = new ClassCache<>(clazz -> new ConcurrentHashMap<>());
     private final Field field;
+    private final AnnotationMap annotationMap;
 
     private FieldAnnotator(final Field field) {
         this.field = field;
+        this.annotationMap = AnnotationMap.of(Helper.unpackAnnotations(Arrays.asList(field.getAnnotations())));
     }
 
     /**
@@ -49,7 +55,28 @@ public class FieldAnnotator implements Annotate<Field> {
      * @return the field annotator
      */
     public static FieldAnnotator of(final Field field) {
-        return fieldAnnotatorMap.computeIfAbsent(field, FieldAnnotator::new);
+        return fieldAnnotatorCache.get(field.getDeclaringClass())
+                                   .computeIfAbsent(field, FieldAnnotator::new);
+    }
+
+    /**
+     * <pre>
+     * Removes the cached annotators of the given class.
+     * </pre>
+     *
+     * @param clazz the class
+     */
+    static void invalidate(final Class<?> clazz) {
+        fieldAnnotatorCache.invalidate(clazz);
+    }
+
+    /**
+     * <pre>
+     * Removes all the cached annotators.
+     * </pre>
+     */
+    static void invalidateAll() {
+        fieldAnnotatorCache.invalidateAll();
     }
 
     /**
@@ -73,7 +100,51 @@ public class FieldAnnotator implements Annotate<Field> {
      */
     @Override
     public Stream<Annotation> getAnnotations() {
-        return Helper.unpackAnnotations(Stream.of(this.field.getAnnotations()));
+        return this.annotationMap.getAll()
+                                 .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> boolean hasAnnotation(final Class<A> clazz) {
+        return this.annotationMap.contains(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> Stream<A> getAnnotations(final Class<A> clazz) {
+        return this.annotationMap.get(clazz)
+                                  .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> List<A> getAnnotationsOfType(final Class<A> clazz) {
+        return this.annotationMap.get(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> List<A> getAnnotationsForView(final Class<A> clazz,
+                                                                 final String view) {
+        return this.annotationMap.getViewIndex(clazz)
+                          .get(view);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Annotation> getAnnotationList() {
+        return this.annotationMap.getAll();
     }
 
     /**
@@ -16,12 +16,16 @@
 
 package io.github.agache41.annotator.annotator;
 
+import io.github.agache41.annotator.AnnotationMap;
+import io.github.agache41.annotator.ClassCache;
 import io.github.agache41.annotator.Helper;
 import io.github.agache41.annotator.accessor.Accessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
@@ -32,11 +36,13 @@ import java.util.stream.Stream;
  * </pre>
  */
 public class MethodAnnotator implements Annotate<Method> {
-    private static final Map<Method, MethodAnnotator> methodAnnotatorMap = new ConcurrentHashMap<>();
+    private static final ClassCache<Map<Method, MethodAnnotator>> methodAnnotatorCache = new ClassCache<>(clazz -> new ConcurrentHashMap<>());
     private final Method method;
+    private final AnnotationMap annotationMap;
 
     private MethodAnnotator(final Method method) {
         this.method = method;
+        this.annotationMap = AnnotationMap.of(Helper.unpackAnnotations(Arrays.asList(method.getAnnotations())));
     }
 
     /**
@@ -48,7 +54,28 @@ public class MethodAnnotator implements Annotate<Method> {
      * @return the method annotator
      */
     public static MethodAnnotator of(final Method method) {
-        return methodAnnotatorMap.computeIfAbsent(method, MethodAnnotator::new);
+        return methodAnnotatorCache.get(method.getDeclaringClass())
+                                    .computeIfAbsent(method, MethodAnnotator::new);
+    }
+
+    /**
+     * <pre>
+     * Removes the cached annotators of the given class.
+     * </pre>
+     *
+     * @param clazz the class
+     */
+    static void invalidate(final Class<?> clazz) {
+        methodAnnotatorCache.invalidate(clazz);
+    }
+
+    /**
+     * <pre>
+     * Removes all the cached annotators.
+     * </pre>
+     */
+    static void invalidateAll() {
+        methodAnnotatorCache.invalidateAll();
     }
 
     /**
@@ -72,7 +99,51 @@ public class MethodAnnotator implements Annotate<Method> {
      */
     @Override
     public Stream<Annotation> getAnnotations() {
-        return Helper.unpackAnnotations(Stream.of(this.method.getAnnotations()));
+        return this.annotationMap.getAll()
+                                 .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> boolean hasAnnotation(final Class<A> clazz) {
+        return this.annotationMap.contains(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> Stream<A> getAnnotations(final Class<A> clazz) {
+        return this.annotationMap.get(clazz)
+                                  .stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> List<A> getAnnotationsOfType(final Class<A> clazz) {
+        return this.annotationMap.get(clazz);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A extends Annotation> List<A> getAnnotationsForView(final Class<A> clazz,
+                                                                 final String view) {
+        return this.annotationMap.getViewIndex(clazz)
+                          .get(view);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Annotation> getAnnotationList() {
+        return this.annotationMap.getAll();
     }
 
     /**
@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.annotator;
+
+import io.github.agache41.annotator.ViewIndex;
+import io.github.agache41.annotator.ViewRegistry;
+import io.github.agache41.annotator.accessor.Accessor;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * <pre>
+ * Dense table resolving an annotation type for all the accessors of a class in all the views:
+ * accessor index (see Annotate.getAccessorList) x view id (see ViewRegistry) gives the annotation
+ * available for the accessor in the view, as Annotator.getAnnotationForView would return it.
+ * The table is computed once per class and annotation type, see ClassAnnotator.getViewTable,
+ * so resolving a view for an accessor is an array lookup.
+ * Example :
+ * ViewTable{@literal <}Column{@literal >} columns = ClassAnnotator.of(Entity.class).getViewTable(Column.class);
+ * int v1 = ViewRegistry.idOf("v1");
+ * for (int index = 0; index {@literal <} columns.getAccessorCount(); index++) {
+ *     Column column = columns.get(index, v1);
+ * }
+ * </pre>
+ *
+ * @param <A> the annotation type
+ */
+public final class ViewTable<A extends Annotation> {
+
+    private static final Object AMBIGUOUS = new Object();
+
+    private final Class<A> annotationType;
+    private final List<Accessor<?>> accessors;
+    private final int viewCount;
+    private final Object[] table;
+
+    private ViewTable(final Class<A> annotationType,
+                      final List<Accessor<?>> accessors) {
+        this.annotationType = annotationType;
+        this.accessors = accessors;
+        final ViewIndex<?>[] viewIndexes = new ViewIndex<?>[accessors.size()];
+        for (int index = 0; index < viewIndexes.length; index++) {
+            // building the view indexes registers all the views named by the annotations
+            viewIndexes[index] = accessors.get(index)
+                                          .getAnnotationMap()
+                                          .getViewIndex(annotationType);
+        }
+        this.viewCount = ViewRegistry.size();
+        this.table = new Object[viewIndexes.length * this.viewCount];
+        for (int index = 0; index < viewIndexes.length; index++) {
+            for (int viewId = 0; viewId < this.viewCount; viewId++) {
+                final List<?> inView = viewIndexes[index].get(viewId);
+                this.table[index * this.viewCount + viewId] = inView.isEmpty() ? null : inView.size() == 1 ? inView.get(0) : AMBIGUOUS;
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a ViewTable over the given accessors.
+     * </pre>
+     *
+     * @param <A>            the annotation type
+     * @param annotationType the annotation type
+     * @param accessors      the accessors
+     * @return the view table
+     */
+    static <A extends Annotation> ViewTable<A> of(final Class<A> annotationType,
+                                                  final List<Accessor<?>> accessors) {
+        return new ViewTable<>(annotationType,
+                               accessors);
+    }
+
+    /**
+     * <pre>
+     * Gets the annotation available for the accessor at the given index in the view with the given id.
+     * Views registered after the table was built are not named by any annotation of the class,
+     * so they resolve like the default view.
+     * </pre>
+     *
+     * @param accessorIndex the accessor index
+     * @param viewId        the view id
+     * @return the annotation, or null if there is none
+     * @throws RuntimeException if more than one annotation is available
+     */
+    @SuppressWarnings("unchecked")
+    public A get(final int accessorIndex,
+                 final int viewId) {
+        final int column = viewId >= 0 && viewId < this.viewCount ? viewId : ViewRegistry.DEFAULT_ID;
+        final Object annotation = this.table[accessorIndex * this.viewCount + column];
+        if (annotation == AMBIGUOUS) {
+            throw new RuntimeException("More than one annotation of type " + this.annotationType.getSimpleName() + " where found in default or " + ViewRegistry.nameOf(column) + " view on " + this.accessors.get(accessorIndex));
+        }
+        return (A) annotation;
+    }
+
+    /**
+     * <pre>
+     * Gets the annotation available for the accessor at the given index in the given view.
+     * </pre>
+     *
+     * @param accessorIndex the accessor index
+     * @param view          the view
+     * @return the annotation, or null if there is none
+     */
+    public A get(final int accessorIndex,
+                 final String view) {
+        return this.get(accessorIndex,
+                        ViewRegistry.find(view));
+    }
+
+    /**
+     * <pre>
+     * Gets the accessor at the given index.
+     * </pre>
+     *
+     * @param accessorIndex the accessor index
+     * @return the accessor
+     */
+    public Accessor<?> getAccessor(final int accessorIndex) {
+        return this.accessors.get(accessorIndex);
+    }
+
+    /**
+     * <pre>
+     * Gets the number of accessors (rows) of the table.
+     * </pre>
+     *
+     * @return the accessor count
+     */
+    public int getAccessorCount() {
+        return this.accessors.size();
+    }
+
+    /**
+     * <pre>
+     * Gets the number of views (columns) of the table.
+     * </pre>
+     *
+     * @return the view count
+     */
+    public int getViewCount() {
+        return this.viewCount;
+    }
+
+    /**
+     * <pre>
+     * Gets the annotation type.
+     * </pre>
+     *
+     * @return the annotation type
+     */
+    public Class<A> getAnnotationType() {
+        return this.annotationType;
+    }
+}
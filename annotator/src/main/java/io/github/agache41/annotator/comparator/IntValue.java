@@ -70,7 +70,7 @@ public class IntValue<A> implements ToIntFunction<A> {
         if (methodAcc == null) {
             return 0;
         } else {
-            return (int) (Integer) methodAcc.get(value);
+            return methodAcc.getInt(value);
         }
     }
 }
@@ -0,0 +1,270 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.discovery;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Index of the classes carrying an annotation, on the type or on its fields and methods,
+ * built from class files without loading the classes.
+ * Annotations held in the value array of a container annotation are indexed as well.
+ * Annotations marked with @Inherited on the type are propagated to the subclasses present in the index.
+ * Annotations on fields and methods are propagated to the subclasses present in the index as well,
+ * since the ClassAnnotator of a subclass walks the members of its superclasses.
+ * Only the matching classes are loaded, for instance to warm up their annotators.
+ * Example :
+ * AnnotationIndex index = AnnotationIndex.scan(Arrays.asList(Paths.get("lib/model.jar"), Paths.get("target/classes")));
+ * index.warmUp(classLoader, Position.class, Recurse.class).join();
+ * </pre>
+ */
+public class AnnotationIndex {
+    private static final String INHERITED = Inherited.class.getName();
+    private final Map<String, ClassFileInfo> classFiles = new HashMap<>();
+    private final Map<String, Set<String>> typeIndex = new HashMap<>();
+    private final Map<String, Set<String>> memberIndex = new HashMap<>();
+    private final Map<String, Set<String>> inheritedTypeIndex = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> inheritedMemberIndex = new ConcurrentHashMap<>();
+
+    /**
+     * <pre>
+     * Instantiates a new AnnotationIndex over the given class files.
+     * </pre>
+     *
+     * @param classFiles the class files
+     */
+    public AnnotationIndex(final Collection<ClassFileInfo> classFiles) {
+        for (final ClassFileInfo classFile : classFiles) {
+            // the first root wins, as in a class path
+            if (this.classFiles.putIfAbsent(classFile.getClassName(),
+                                            classFile) != null) {
+                continue;
+            }
+            for (final String annotation : classFile.getClassAnnotations()) {
+                this.typeIndex.computeIfAbsent(annotation,
+                                               name -> new TreeSet<>())
+                              .add(classFile.getClassName());
+            }
+            for (final String annotation : classFile.getMemberAnnotations()) {
+                this.memberIndex.computeIfAbsent(annotation,
+                                                 name -> new TreeSet<>())
+                                .add(classFile.getClassName());
+            }
+        }
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create an AnnotationIndex over the given class files.
+     * </pre>
+     *
+     * @param classFiles the class files
+     * @return the annotation index
+     */
+    public static AnnotationIndex of(final Collection<ClassFileInfo> classFiles) {
+        return new AnnotationIndex(classFiles);
+    }
+
+    /**
+     * <pre>
+     * Scans the given directories and jar files and indexes their class files.
+     * </pre>
+     *
+     * @param roots the directories and jar files, in class path order
+     * @return the annotation index
+     * @throws IOException if a root can not be read
+     */
+    public static AnnotationIndex scan(final Collection<Path> roots) throws IOException {
+        final List<ClassFileInfo> classFiles = new ArrayList<>();
+        for (final Path root : roots) {
+            classFiles.addAll(ClassFileScanner.scan(root));
+        }
+        return new AnnotationIndex(classFiles);
+    }
+
+    /**
+     * <pre>
+     * Gets the number of indexed classes.
+     * </pre>
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.classFiles.size();
+    }
+
+    /**
+     * <pre>
+     * Gets the names of the classes carrying the given annotation on the type.
+     * </pre>
+     *
+     * @param annotationType the annotation type
+     * @return the class names, sorted
+     */
+    public Set<String> getTypesAnnotatedWith(final Class<? extends Annotation> annotationType) {
+        return this.getTypesAnnotatedWith(annotationType.getName(),
+                                          annotationType.isAnnotationPresent(Inherited.class));
+    }
+
+    /**
+     * <pre>
+     * Gets the names of the classes carrying the annotation with the given name on the type.
+     * The annotation is propagated to the subclasses if its own class file is indexed and marked with @Inherited.
+     * </pre>
+     *
+     * @param annotationName the annotation type name
+     * @return the class names, sorted
+     */
+    public Set<String> getTypesAnnotatedWith(final String annotationName) {
+        final ClassFileInfo annotationClassFile = this.classFiles.get(annotationName);
+        return this.getTypesAnnotatedWith(annotationName,
+                                          annotationClassFile != null && annotationClassFile.getClassAnnotations()
+                                                                                            .contains(INHERITED));
+    }
+
+    /**
+     * <pre>
+     * Gets the names of the classes carrying the given annotation on the type or on any field or method,
+     * including the fields and methods declared in their indexed superclasses.
+     * </pre>
+     *
+     * @param annotationType the annotation type
+     * @return the class names, sorted
+     */
+    public Set<String> getClassNames(final Class<? extends Annotation> annotationType) {
+        return this.union(this.getTypesAnnotatedWith(annotationType),
+                          annotationType.getName());
+    }
+
+    /**
+     * <pre>
+     * Gets the names of the classes carrying the annotation with the given name on the type or on any field or method,
+     * including the fields and methods declared in their indexed superclasses.
+     * </pre>
+     *
+     * @param annotationName the annotation type name
+     * @return the class names, sorted
+     */
+    public Set<String> getClassNames(final String annotationName) {
+        return this.union(this.getTypesAnnotatedWith(annotationName),
+                          annotationName);
+    }
+
+    /**
+     * <pre>
+     * Loads, without initializing them, the classes carrying any of the given annotations.
+     * Classes that can not be loaded are skipped.
+     * </pre>
+     *
+     * @param classLoader     the class loader
+     * @param annotationTypes the annotation types
+     * @return the classes
+     */
+    @SafeVarargs
+    public final List<Class<?>> loadClasses(final ClassLoader classLoader,
+                                            final Class<? extends Annotation>... annotationTypes) {
+        final Set<String> classNames = new TreeSet<>();
+        for (final Class<? extends Annotation> annotationType : annotationTypes) {
+            classNames.addAll(this.getClassNames(annotationType));
+        }
+        final List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (final String className : classNames) {
+            try {
+                classes.add(Class.forName(className,
+                                          false,
+                                          classLoader));
+            } catch (final ClassNotFoundException | LinkageError e) {
+                // present in the scanned roots but not visible to the class loader
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * <pre>
+     * Warms up the annotators of the classes carrying any of the given annotations.
+     * </pre>
+     *
+     * @param classLoader     the class loader
+     * @param annotationTypes the annotation types
+     * @return the completion handle, completed with the report
+     */
+    @SafeVarargs
+    public final CompletableFuture<WarmUpReport> warmUp(final ClassLoader classLoader,
+                                                        final Class<? extends Annotation>... annotationTypes) {
+        return WarmUp.warmUp(this.loadClasses(classLoader,
+                                              annotationTypes));
+    }
+
+    private Set<String> union(final Set<String> typesAnnotated,
+                              final String annotationName) {
+        final Set<String> classNames = new TreeSet<>(typesAnnotated);
+        classNames.addAll(this.getMembersAnnotatedWith(annotationName));
+        return Collections.unmodifiableSet(classNames);
+    }
+
+    private Set<String> getMembersAnnotatedWith(final String annotationName) {
+        final Set<String> annotated = this.memberIndex.getOrDefault(annotationName,
+                                                                    Collections.emptySet());
+        if (annotated.isEmpty()) {
+            return annotated;
+        }
+        return this.inheritedMemberIndex.computeIfAbsent(annotationName,
+                                                         name -> this.subclassesOf(annotated));
+    }
+
+    private Set<String> getTypesAnnotatedWith(final String annotationName,
+                                              final boolean inherited) {
+        final Set<String> annotated = this.typeIndex.getOrDefault(annotationName,
+                                                                  Collections.emptySet());
+        if (!inherited || annotated.isEmpty()) {
+            return Collections.unmodifiableSet(annotated);
+        }
+        return this.inheritedTypeIndex.computeIfAbsent(annotationName,
+                                                       name -> this.subclassesOf(annotated));
+    }
+
+    private Set<String> subclassesOf(final Set<String> annotated) {
+        final Set<String> classNames = new TreeSet<>();
+        for (final ClassFileInfo classFile : this.classFiles.values()) {
+            if (this.inherits(classFile,
+                              annotated)) {
+                classNames.add(classFile.getClassName());
+            }
+        }
+        return Collections.unmodifiableSet(classNames);
+    }
+
+    private boolean inherits(final ClassFileInfo classFile,
+                             final Set<String> annotated) {
+        ClassFileInfo current = classFile;
+        while (current != null) {
+            if (annotated.contains(current.getClassName())) {
+                return true;
+            }
+            current = current.getSuperClassName() == null ? null : this.classFiles.get(current.getSuperClassName());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.discovery;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * <pre>
+ * The information read from a class file without loading the class:
+ * its name, the name of its super class and the runtime visible annotations present on it and on its members.
+ * The names are binary class names, for instance com.example.Order$Line.
+ * </pre>
+ */
+public final class ClassFileInfo {
+    private final String className;
+    private final String superClassName;
+    private final Set<String> classAnnotations;
+    private final Set<String> memberAnnotations;
+
+    /**
+     * <pre>
+     * Instantiates a new ClassFileInfo.
+     * </pre>
+     *
+     * @param className         the class name
+     * @param superClassName    the super class name, null for java.lang.Object and modules
+     * @param classAnnotations  the names of the annotation types present on the class
+     * @param memberAnnotations the names of the annotation types present on the fields and methods
+     */
+    public ClassFileInfo(final String className,
+                         final String superClassName,
+                         final Set<String> classAnnotations,
+                         final Set<String> memberAnnotations) {
+        this.className = className;
+        this.superClassName = superClassName;
+        this.classAnnotations = Collections.unmodifiableSet(classAnnotations);
+        this.memberAnnotations = Collections.unmodifiableSet(memberAnnotations);
+    }
+
+    /**
+     * <pre>
+     * Gets the class name.
+     * </pre>
+     *
+     * @return the class name
+     */
+    public String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * <pre>
+     * Gets the super class name.
+     * </pre>
+     *
+     * @return the super class name, or null
+     */
+    public String getSuperClassName() {
+        return this.superClassName;
+    }
+
+    /**
+     * <pre>
+     * Gets the names of the annotation types present on the class.
+     * </pre>
+     *
+     * @return the class annotations
+     */
+    public Set<String> getClassAnnotations() {
+        return this.classAnnotations;
+    }
+
+    /**
+     * <pre>
+     * Gets the names of the annotation types present on the fields and methods of the class.
+     * </pre>
+     *
+     * @return the member annotations
+     */
+    public Set<String> getMemberAnnotations() {
+        return this.memberAnnotations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ClassFileInfo(" + this.className + ", classAnnotations=" + this.classAnnotations + ", memberAnnotations=" + this.memberAnnotations + ")";
+    }
+}
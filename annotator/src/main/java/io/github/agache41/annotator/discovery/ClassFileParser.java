@@ -0,0 +1,221 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.discovery;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Minimal class file parser, reading only the constant pool, the class names
+ * and the RuntimeVisibleAnnotations attributes of the class, its fields and its methods.
+ * Everything else is skipped. The parsed class is never loaded.
+ * </pre>
+ */
+class ClassFileParser {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final int UTF8 = 1;
+    private static final int INTEGER = 3;
+    private static final int FLOAT = 4;
+    private static final int LONG = 5;
+    private static final int DOUBLE = 6;
+    private static final int CLASS = 7;
+    private static final int STRING = 8;
+    private static final int FIELD_REF = 9;
+    private static final int METHOD_REF = 10;
+    private static final int INTERFACE_METHOD_REF = 11;
+    private static final int NAME_AND_TYPE = 12;
+    private static final int METHOD_HANDLE = 15;
+    private static final int METHOD_TYPE = 16;
+    private static final int DYNAMIC = 17;
+    private static final int INVOKE_DYNAMIC = 18;
+    private static final int MODULE = 19;
+    private static final int PACKAGE = 20;
+
+    private final DataInputStream input;
+    private String[] utf8;
+    private int[] classNameIndexes;
+
+    private ClassFileParser(final InputStream input) {
+        this.input = new DataInputStream(input);
+    }
+
+    /**
+     * <pre>
+     * Parses the given class file.
+     * </pre>
+     *
+     * @param input the class file content
+     * @return the class file information
+     * @throws IOException if the content is not a valid class file
+     */
+    static ClassFileInfo parse(final InputStream input) throws IOException {
+        return new ClassFileParser(input).parse();
+    }
+
+    private ClassFileInfo parse() throws IOException {
+        if (this.input.readInt() != MAGIC) {
+            throw new IOException(" Invalid class file magic number!");
+        }
+        // minor and major version
+        this.input.readInt();
+        this.readConstantPool();
+        // access flags
+        this.input.readUnsignedShort();
+        final String className = this.className(this.input.readUnsignedShort());
+        final int superClass = this.input.readUnsignedShort();
+        final String superClassName = superClass == 0 ? null : this.className(superClass);
+        this.skip(2 * this.input.readUnsignedShort());
+        final Set<String> memberAnnotations = new HashSet<>();
+        // fields and methods
+        for (int members = 0; members < 2; members++) {
+            final int count = this.input.readUnsignedShort();
+            for (int member = 0; member < count; member++) {
+                this.skip(6);
+                this.readAttributes(memberAnnotations);
+            }
+        }
+        final Set<String> classAnnotations = new HashSet<>();
+        this.readAttributes(classAnnotations);
+        return new ClassFileInfo(className,
+                                 superClassName,
+                                 classAnnotations,
+                                 memberAnnotations);
+    }
+
+    private void readConstantPool() throws IOException {
+        final int count = this.input.readUnsignedShort();
+        this.utf8 = new String[count];
+        this.classNameIndexes = new int[count];
+        for (int index = 1; index < count; index++) {
+            final int tag = this.input.readUnsignedByte();
+            switch (tag) {
+                case UTF8:
+                    this.utf8[index] = this.input.readUTF();
+                    break;
+                case CLASS:
+                    this.classNameIndexes[index] = this.input.readUnsignedShort();
+                    break;
+                case STRING:
+                case METHOD_TYPE:
+                case MODULE:
+                case PACKAGE:
+                    this.skip(2);
+                    break;
+                case METHOD_HANDLE:
+                    this.skip(3);
+                    break;
+                case INTEGER:
+                case FLOAT:
+                case FIELD_REF:
+                case METHOD_REF:
+                case INTERFACE_METHOD_REF:
+                case NAME_AND_TYPE:
+                case DYNAMIC:
+                case INVOKE_DYNAMIC:
+                    this.skip(4);
+                    break;
+                case LONG:
+                case DOUBLE:
+                    this.skip(8);
+                    // eight byte constants take two entries
+                    index++;
+                    break;
+                default:
+                    throw new IOException(" Unknown constant pool tag " + tag + "!");
+            }
+        }
+    }
+
+    private void readAttributes(final Set<String> annotations) throws IOException {
+        final int count = this.input.readUnsignedShort();
+        for (int attribute = 0; attribute < count; attribute++) {
+            final String name = this.utf8[this.input.readUnsignedShort()];
+            final int length = this.input.readInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                final int annotationCount = this.input.readUnsignedShort();
+                for (int annotation = 0; annotation < annotationCount; annotation++) {
+                    this.readAnnotation(annotations);
+                }
+            } else {
+                this.skip(length);
+            }
+        }
+    }
+
+    private void readAnnotation(final Set<String> annotations) throws IOException {
+        final String descriptor = this.utf8[this.input.readUnsignedShort()];
+        if (annotations != null) {
+            annotations.add(toClassName(descriptor.substring(1,
+                                                             descriptor.length() - 1)));
+        }
+        final int pairs = this.input.readUnsignedShort();
+        for (int pair = 0; pair < pairs; pair++) {
+            final String name = this.utf8[this.input.readUnsignedShort()];
+            // like the Helper, the annotations held in the value array of a container are unpacked
+            this.readElementValue(annotations != null && "value".equals(name) ? annotations : null,
+                                  false);
+        }
+    }
+
+    private void readElementValue(final Set<String> containedAnnotations,
+                                  final boolean inArray) throws IOException {
+        final int tag = this.input.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                this.skip(4);
+                break;
+            case '@':
+                this.readAnnotation(inArray ? containedAnnotations : null);
+                break;
+            case '[':
+                final int values = this.input.readUnsignedShort();
+                for (int value = 0; value < values; value++) {
+                    this.readElementValue(containedAnnotations,
+                                          true);
+                }
+                break;
+            default:
+                // B C D F I J S Z s c
+                this.skip(2);
+        }
+    }
+
+    private String className(final int classIndex) {
+        return toClassName(this.utf8[this.classNameIndexes[classIndex]]);
+    }
+
+    private static String toClassName(final String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    private void skip(final int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            final int skipped = this.input.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new IOException(" Unexpected end of class file!");
+            }
+            remaining -= skipped;
+        }
+    }
+}
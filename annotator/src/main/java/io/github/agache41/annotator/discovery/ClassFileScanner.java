@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.discovery;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * Reads the class files of a class path root, a directory or a jar file, without loading the classes.
+ * Example :
+ * List{@literal <}ClassFileInfo{@literal >} classFiles = ClassFileScanner.scan(Paths.get("lib/model.jar"));
+ * </pre>
+ */
+public class ClassFileScanner {
+
+    /**
+     * <pre>
+     * Reads all the class files found in the given directory or jar file.
+     * Files that are not valid class files are skipped.
+     * </pre>
+     *
+     * @param root the directory or jar file
+     * @return the information of the class files
+     * @throws IOException if the root can not be read
+     */
+    public static List<ClassFileInfo> scan(final Path root) throws IOException {
+        if (Files.isDirectory(root)) {
+            return scanDirectory(root);
+        }
+        if (Files.isRegularFile(root)) {
+            return scanJar(root);
+        }
+        throw new IOException(" Class path root " + root + " does not exist!");
+    }
+
+    private static List<ClassFileInfo> scanDirectory(final Path root) throws IOException {
+        final List<Path> classFiles;
+        try (final Stream<Path> files = Files.walk(root)) {
+            classFiles = files.filter(Files::isRegularFile)
+                              .filter(file -> ClassPathScanner.isClassFile(root.relativize(file)
+                                                                               .toString()
+                                                                               .replace(File.separatorChar, '/')))
+                              .collect(Collectors.toList());
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        final List<ClassFileInfo> classFileInfos = new ArrayList<>(classFiles.size());
+        for (final Path classFile : classFiles) {
+            try (final InputStream input = Files.newInputStream(classFile)) {
+                add(classFileInfos,
+                    input);
+            }
+        }
+        return classFileInfos;
+    }
+
+    private static List<ClassFileInfo> scanJar(final Path root) throws IOException {
+        final List<ClassFileInfo> classFileInfos = new ArrayList<>();
+        try (final JarFile jarFile = new JarFile(root.toFile())) {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                // versioned entries of multi release jars repeat the base classes
+                if (entry.isDirectory() || entry.getName()
+                                                .startsWith("META-INF/") || !ClassPathScanner.isClassFile(entry.getName())) {
+                    continue;
+                }
+                try (final InputStream input = jarFile.getInputStream(entry)) {
+                    add(classFileInfos,
+                        input);
+                }
+            }
+        }
+        return classFileInfos;
+    }
+
+    private static void add(final List<ClassFileInfo> classFileInfos,
+                            final InputStream input) throws IOException {
+        final byte[] classFile = input.readAllBytes();
+        try {
+            classFileInfos.add(ClassFileParser.parse(new ByteArrayInputStream(classFile)));
+        } catch (final IOException e) {
+            // not a class file the parser understands, it can not be indexed
+        }
+    }
+}
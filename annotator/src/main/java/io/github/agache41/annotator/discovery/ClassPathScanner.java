@@ -0,0 +1,153 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.discovery;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * Lists the names of the classes found under a package prefix in the class path of a class loader.
+ * Directories and jar files are supported. The classes are not loaded.
+ * Example :
+ * List{@literal <}String{@literal >} classNames = ClassPathScanner.getClassNames(classLoader, "com.example.model");
+ * </pre>
+ */
+public class ClassPathScanner {
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * <pre>
+     * Gets the names of the classes found under the given package prefix.
+     * Module descriptors and package descriptors are skipped.
+     * </pre>
+     *
+     * @param classLoader   the class loader
+     * @param packagePrefix the package prefix, for instance com.example
+     * @return the binary class names, sorted
+     * @throws IOException if a class path entry can not be read
+     */
+    public static List<String> getClassNames(final ClassLoader classLoader,
+                                             final String packagePrefix) throws IOException {
+        final String path = packagePrefix.replace('.', '/');
+        final Set<String> classNames = new TreeSet<>();
+        final Enumeration<URL> roots = classLoader.getResources(path);
+        while (roots.hasMoreElements()) {
+            final URL root = roots.nextElement();
+            if ("file".equals(root.getProtocol())) {
+                scanDirectory(toPath(root),
+                              path,
+                              classNames);
+            } else if ("jar".equals(root.getProtocol())) {
+                final URLConnection connection = root.openConnection();
+                if (connection instanceof JarURLConnection) {
+                    connection.setUseCaches(false);
+                    try (final JarFile jarFile = ((JarURLConnection) connection).getJarFile()) {
+                        scanJar(jarFile,
+                                path,
+                                classNames);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(classNames);
+    }
+
+    /**
+     * <pre>
+     * Tells if the given resource path denotes a class that can be scanned.
+     * </pre>
+     *
+     * @param resourcePath the resource path, for instance com/example/Model.class
+     * @return true if it is a class file, false otherwise
+     */
+    static boolean isClassFile(final String resourcePath) {
+        return resourcePath.endsWith(CLASS_SUFFIX) && !resourcePath.endsWith("module-info.class") && !resourcePath.endsWith("package-info.class");
+    }
+
+    /**
+     * <pre>
+     * Converts a class resource path to a binary class name.
+     * </pre>
+     *
+     * @param resourcePath the resource path, for instance com/example/Model.class
+     * @return the class name, for instance com.example.Model
+     */
+    static String toClassName(final String resourcePath) {
+        return resourcePath.substring(0,
+                                      resourcePath.length() - CLASS_SUFFIX.length())
+                           .replace('/', '.');
+    }
+
+    private static String prefix(final String path) {
+        return path.isEmpty() ? path : path + "/";
+    }
+
+    private static Path toPath(final URL url) throws IOException {
+        try {
+            return Paths.get(url.toURI());
+        } catch (final URISyntaxException e) {
+            return new File(url.getPath()).toPath();
+        }
+    }
+
+    private static void scanDirectory(final Path directory,
+                                      final String path,
+                                      final Set<String> classNames) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (final Stream<Path> files = Files.walk(directory)) {
+            classNames.addAll(files.filter(Files::isRegularFile)
+                                   .map(file -> prefix(path) + directory.relativize(file)
+                                                                       .toString()
+                                                                       .replace(File.separatorChar, '/'))
+                                   .filter(ClassPathScanner::isClassFile)
+                                   .map(ClassPathScanner::toClassName)
+                                   .collect(Collectors.toList()));
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void scanJar(final JarFile jarFile,
+                                final String path,
+                                final Set<String> classNames) {
+        final Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            final String name = entries.nextElement()
+                                       .getName();
+            if (name.startsWith(prefix(path)) && isClassFile(name)) {
+                classNames.add(toClassName(name));
+            }
+        }
+    }
+}
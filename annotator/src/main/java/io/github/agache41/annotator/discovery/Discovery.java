@@ -0,0 +1,375 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.discovery;
+
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * Discovery of the annotated types of a class path, with the scan results cached per jar file and per directory.
+ * A root is scanned again only if its size, last modification time or number of files changed
+ * since its results were cached, so on restart only the changed roots are examined.
+ * The discovered classes can be pre-registered with the ClassAnnotator, by warming up their annotators.
+ * Example :
+ * Discovery discovery = Discovery.of(Paths.get("/var/cache/annotator"));
+ * discovery.register(classLoader, Discovery.classPathRoots(), Position.class, Recurse.class).join();
+ * </pre>
+ */
+public class Discovery {
+    private static final int MAGIC = 0x414E4449;
+    private static final int VERSION = 1;
+    private static final String CACHE_SUFFIX = ".index";
+    private final Path cacheDirectory;
+    private final AtomicInteger cacheHits = new AtomicInteger();
+    private final AtomicInteger cacheMisses = new AtomicInteger();
+
+    /**
+     * <pre>
+     * Instantiates a new Discovery caching its results in the given directory.
+     * </pre>
+     *
+     * @param cacheDirectory the cache directory, created if missing
+     */
+    public Discovery(final Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a Discovery caching its results in the given directory.
+     * </pre>
+     *
+     * @param cacheDirectory the cache directory, created if missing
+     * @return the discovery
+     */
+    public static Discovery of(final Path cacheDirectory) {
+        return new Discovery(cacheDirectory);
+    }
+
+    /**
+     * <pre>
+     * Gets the roots of the system class path, the directories and jar files that exist.
+     * </pre>
+     *
+     * @return the class path roots
+     */
+    public static List<Path> classPathRoots() {
+        return Stream.of(System.getProperty("java.class.path")
+                               .split(File.pathSeparator))
+                     .filter(entry -> !entry.isEmpty())
+                     .map(Paths::get)
+                     .filter(Files::exists)
+                     .collect(Collectors.toList());
+    }
+
+    /**
+     * <pre>
+     * Builds the annotation index of the given roots, reusing the cached results of the unchanged roots.
+     * </pre>
+     *
+     * @param roots the directories and jar files, in class path order
+     * @return the annotation index
+     * @throws IOException if a root can not be read
+     */
+    public AnnotationIndex index(final Collection<Path> roots) throws IOException {
+        Files.createDirectories(this.cacheDirectory);
+        final List<ClassFileInfo> classFiles = new ArrayList<>();
+        for (final Path root : roots) {
+            classFiles.addAll(this.classFiles(root.toAbsolutePath()
+                                                  .normalize()));
+        }
+        return AnnotationIndex.of(classFiles);
+    }
+
+    /**
+     * <pre>
+     * Lists the names of the classes of the given roots carrying any of the given annotations,
+     * on the type or on a field or method, their own or inherited from an indexed superclass.
+     * </pre>
+     *
+     * @param roots           the directories and jar files, in class path order
+     * @param annotationTypes the annotation types
+     * @return the class names, sorted
+     * @throws IOException if a root can not be read
+     */
+    @SafeVarargs
+    public final Set<String> discover(final Collection<Path> roots,
+                                      final Class<? extends Annotation>... annotationTypes) throws IOException {
+        final AnnotationIndex index = this.index(roots);
+        final Set<String> classNames = new TreeSet<>();
+        for (final Class<? extends Annotation> annotationType : annotationTypes) {
+            classNames.addAll(index.getClassNames(annotationType));
+        }
+        return classNames;
+    }
+
+    /**
+     * <pre>
+     * Discovers the classes of the given roots carrying any of the given annotations
+     * and pre-registers them with the ClassAnnotator, building their annotators concurrently.
+     * </pre>
+     *
+     * @param classLoader     the class loader used to load the discovered classes
+     * @param roots           the directories and jar files, in class path order
+     * @param annotationTypes the annotation types
+     * @return the completion handle, completed with the warm-up report
+     * @throws IOException if a root can not be read
+     */
+    @SafeVarargs
+    public final CompletableFuture<WarmUpReport> register(final ClassLoader classLoader,
+                                                          final Collection<Path> roots,
+                                                          final Class<? extends Annotation>... annotationTypes) throws IOException {
+        return this.index(roots)
+                   .warmUp(classLoader,
+                           annotationTypes);
+    }
+
+    /**
+     * <pre>
+     * Gets the number of roots read from the cache.
+     * </pre>
+     *
+     * @return the cache hits
+     */
+    public int getCacheHits() {
+        return this.cacheHits.get();
+    }
+
+    /**
+     * <pre>
+     * Gets the number of roots that had to be scanned.
+     * </pre>
+     *
+     * @return the cache misses
+     */
+    public int getCacheMisses() {
+        return this.cacheMisses.get();
+    }
+
+    private List<ClassFileInfo> classFiles(final Path root) throws IOException {
+        final Stamp stamp = Stamp.of(root);
+        final Path cacheFile = this.cacheDirectory.resolve(Integer.toHexString(root.toString()
+                                                                                   .hashCode()) + "-" + root.getFileName() + CACHE_SUFFIX);
+        final List<ClassFileInfo> cached = read(cacheFile,
+                                                root,
+                                                stamp);
+        if (cached != null) {
+            this.cacheHits.incrementAndGet();
+            return cached;
+        }
+        this.cacheMisses.incrementAndGet();
+        final List<ClassFileInfo> classFiles = ClassFileScanner.scan(root);
+        write(cacheFile,
+              root,
+              stamp,
+              classFiles);
+        return classFiles;
+    }
+
+    private static List<ClassFileInfo> read(final Path cacheFile,
+                                            final Path root,
+                                            final Stamp stamp) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION || !root.toString()
+                                                                               .equals(input.readUTF()) || !stamp.equals(Stamp.read(input))) {
+                return null;
+            }
+            final int count = input.readInt();
+            final List<ClassFileInfo> classFiles = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) {
+                final String className = input.readUTF();
+                final String superClassName = input.readBoolean() ? input.readUTF() : null;
+                classFiles.add(new ClassFileInfo(className,
+                                                 superClassName,
+                                                 readNames(input),
+                                                 readNames(input)));
+            }
+            return classFiles;
+        } catch (final IOException e) {
+            // a broken cache file is replaced by a new scan
+            return null;
+        }
+    }
+
+    private static void write(final Path cacheFile,
+                              final Path root,
+                              final Stamp stamp,
+                              final List<ClassFileInfo> classFiles) throws IOException {
+        final Path temporaryFile = Files.createTempFile(cacheFile.getParent(),
+                                                        cacheFile.getFileName()
+                                                                 .toString(),
+                                                        ".tmp");
+        try {
+            try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeUTF(root.toString());
+                stamp.write(output);
+                output.writeInt(classFiles.size());
+                for (final ClassFileInfo classFile : classFiles) {
+                    output.writeUTF(classFile.getClassName());
+                    output.writeBoolean(classFile.getSuperClassName() != null);
+                    if (classFile.getSuperClassName() != null) {
+                        output.writeUTF(classFile.getSuperClassName());
+                    }
+                    writeNames(output,
+                               classFile.getClassAnnotations());
+                    writeNames(output,
+                               classFile.getMemberAnnotations());
+                }
+            }
+            // concurrent processes see either the old or the new cache file
+            try {
+                Files.move(temporaryFile,
+                           cacheFile,
+                           StandardCopyOption.REPLACE_EXISTING,
+                           StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile,
+                           cacheFile,
+                           StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            // a failed write or move must not leave the temporary file behind
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static Set<String> readNames(final DataInputStream input) throws IOException {
+        final int count = input.readInt();
+        final Set<String> names = new HashSet<>(count * 2);
+        for (int index = 0; index < count; index++) {
+            names.add(input.readUTF());
+        }
+        return names;
+    }
+
+    private static void writeNames(final DataOutputStream output,
+                                   final Set<String> names) throws IOException {
+        output.writeInt(names.size());
+        for (final String name : names) {
+            output.writeUTF(name);
+        }
+    }
+
+    /**
+     * <pre>
+     * The stamp of a root: size, last modification time and number of files.
+     * For a directory the sizes are summed and the latest modification time of its files and directories is kept,
+     * so that added, removed and changed files are detected.
+     * </pre>
+     */
+    private static class Stamp {
+        private final long size;
+        private final long lastModified;
+        private final long files;
+
+        private Stamp(final long size,
+                      final long lastModified,
+                      final long files) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.files = files;
+        }
+
+        private static Stamp of(final Path root) throws IOException {
+            if (!Files.isDirectory(root)) {
+                final BasicFileAttributes attributes = Files.readAttributes(root,
+                                                                            BasicFileAttributes.class);
+                return new Stamp(attributes.size(),
+                                 attributes.lastModifiedTime()
+                                           .toMillis(),
+                                 1);
+            }
+            final long[] stamp = new long[3];
+            Files.walkFileTree(root,
+                               new SimpleFileVisitor<Path>() {
+                                   @Override
+                                   public FileVisitResult preVisitDirectory(final Path directory,
+                                                                            final BasicFileAttributes attributes) {
+                                       stamp[1] = Math.max(stamp[1],
+                                                           attributes.lastModifiedTime()
+                                                                     .toMillis());
+                                       return FileVisitResult.CONTINUE;
+                                   }
+
+                                   @Override
+                                   public FileVisitResult visitFile(final Path file,
+                                                                    final BasicFileAttributes attributes) {
+                                       stamp[0] += attributes.size();
+                                       stamp[1] = Math.max(stamp[1],
+                                                           attributes.lastModifiedTime()
+                                                                     .toMillis());
+                                       stamp[2]++;
+                                       return FileVisitResult.CONTINUE;
+                                   }
+                               });
+            return new Stamp(stamp[0],
+                             stamp[1],
+                             stamp[2]);
+        }
+
+        private static Stamp read(final DataInputStream input) throws IOException {
+            return new Stamp(input.readLong(),
+                             input.readLong(),
+                             input.readLong());
+        }
+
+        private void write(final DataOutputStream output) throws IOException {
+            output.writeLong(this.size);
+            output.writeLong(this.lastModified);
+            output.writeLong(this.files);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Stamp)) {
+                return false;
+            }
+            final Stamp stamp = (Stamp) o;
+            return this.size == stamp.size && this.lastModified == stamp.lastModified && this.files == stamp.files;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.size,
+                                this.lastModified,
+                                this.files);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.discovery;
+
+import io.github.agache41.annotator.annotator.ClassAnnotator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <pre>
+ * Builds the class annotators of a set of classes ahead of their first use, concurrently.
+ * Every class is built in its own task: the fields, methods, annotations and accessors are computed,
+ * including the accessors of the types embedded with @Recurse.
+ * The annotator registry does not lock while building, so tasks that need the same embedded type
+ * do not wait on each other and can not deadlock. In the worst case an embedded type is built twice
+ * and the first published annotator is kept.
+ * A class that fails to build, including by overflowing the stack, is recorded in the report and does not
+ * stop the other tasks. Only the fatal virtual machine errors are propagated.
+ * Example :
+ * WarmUp.warmUp(Arrays.asList(Order.class, Customer.class))
+ *       .thenAccept(report -{@literal >} log.info(report.toString()));
+ * WarmUp.warmUp(classLoader, "com.example.model").join();
+ * </pre>
+ */
+public class WarmUp {
+
+    /**
+     * <pre>
+     * Warms up the given classes on the common fork-join pool.
+     * </pre>
+     *
+     * @param classes the classes
+     * @return the completion handle, completed with the report
+     */
+    public static CompletableFuture<WarmUpReport> warmUp(final Collection<Class<?>> classes) {
+        return warmUp(classes,
+                      ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <pre>
+     * Warms up the given classes on the given executor.
+     * </pre>
+     *
+     * @param classes  the classes
+     * @param executor the executor running the build tasks
+     * @return the completion handle, completed with the report
+     */
+    public static CompletableFuture<WarmUpReport> warmUp(final Collection<Class<?>> classes,
+                                                         final Executor executor) {
+        final long start = System.nanoTime();
+        final Map<Class<?>, Duration> buildTimes = new ConcurrentHashMap<>();
+        final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        final CompletableFuture<?>[] tasks = new LinkedHashSet<>(classes).stream()
+                                                                         .map(clazz -> CompletableFuture.runAsync(() -> build(clazz,
+                                                                                                                              buildTimes,
+                                                                                                                              failures),
+                                                                                                                  executor))
+                                                                         .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(tasks)
+                                .thenApply(done -> new WarmUpReport(buildTimes,
+                                                                    failures,
+                                                                    Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    /**
+     * <pre>
+     * Warms up the classes found under the given package prefix on the common fork-join pool.
+     * The classes are loaded without being initialized. Classes that can not be loaded are reported as failures.
+     * </pre>
+     *
+     * @param classLoader   the class loader
+     * @param packagePrefix the package prefix
+     * @return the completion handle, completed with the report
+     * @throws IOException if the class path can not be scanned
+     */
+    public static CompletableFuture<WarmUpReport> warmUp(final ClassLoader classLoader,
+                                                         final String packagePrefix) throws IOException {
+        final List<Class<?>> classes = new ArrayList<>();
+        final Map<String, Throwable> loadFailures = new HashMap<>();
+        for (final String className : ClassPathScanner.getClassNames(classLoader,
+                                                                     packagePrefix)) {
+            try {
+                classes.add(Class.forName(className,
+                                          false,
+                                          classLoader));
+            } catch (final ClassNotFoundException | LinkageError e) {
+                loadFailures.put(className,
+                                 e);
+            }
+        }
+        return warmUp(classes).thenApply(report -> {
+            if (loadFailures.isEmpty()) {
+                return report;
+            }
+            final Map<String, Throwable> failures = new HashMap<>(report.getFailures());
+            failures.putAll(loadFailures);
+            return new WarmUpReport(report.getBuildTimes(),
+                                    failures,
+                                    report.getTotalTime());
+        });
+    }
+
+    private static void build(final Class<?> clazz,
+                              final Map<Class<?>, Duration> buildTimes,
+                              final Map<String, Throwable> failures) {
+        final long start = System.nanoTime();
+        try {
+            final ClassAnnotator<?> annotator = ClassAnnotator.of(clazz);
+            annotator.getFields()
+                     .count();
+            annotator.getMethods()
+                     .count();
+            annotator.getAnnotations()
+                     .count();
+            annotator.getAccessors()
+                     .count();
+            buildTimes.put(clazz,
+                           Duration.ofNanos(System.nanoTime() - start));
+        } catch (final StackOverflowError e) {
+            failures.put(clazz.getName(),
+                         e);
+        } catch (final VirtualMachineError e) {
+            throw e;
+        } catch (final Throwable e) {
+            failures.put(clazz.getName(),
+                         e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.discovery;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * <pre>
+ * The result of a registry warm-up: the build time of every class and the classes that failed.
+ * The build time of a class includes the build of the embedded types it was the first to need.
+ * </pre>
+ */
+public class WarmUpReport {
+    private final Map<Class<?>, Duration> buildTimes;
+    private final Map<String, Throwable> failures;
+    private final Duration totalTime;
+
+    /**
+     * <pre>
+     * Instantiates a new WarmUpReport.
+     * </pre>
+     *
+     * @param buildTimes the build times per class
+     * @param failures   the failures per class name
+     * @param totalTime  the total time of the warm-up
+     */
+    public WarmUpReport(final Map<Class<?>, Duration> buildTimes,
+                        final Map<String, Throwable> failures,
+                        final Duration totalTime) {
+        this.buildTimes = Collections.unmodifiableMap(buildTimes);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * <pre>
+     * Gets the build time of every class that was warmed up successfully.
+     * </pre>
+     *
+     * @return the build times
+     */
+    public Map<Class<?>, Duration> getBuildTimes() {
+        return this.buildTimes;
+    }
+
+    /**
+     * <pre>
+     * Gets the failure of every class that could not be loaded or warmed up, by class name.
+     * </pre>
+     *
+     * @return the failures
+     */
+    public Map<String, Throwable> getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * <pre>
+     * Gets the wall clock time of the whole warm-up.
+     * </pre>
+     *
+     * @return the total time
+     */
+    public Duration getTotalTime() {
+        return this.totalTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "WarmUpReport(classes=" + this.buildTimes.size() + ", failures=" + this.failures.size() + ", totalTime=" + this.totalTime + ")";
+    }
+}
@@ -18,6 +18,7 @@ package io.github.agache41.annotator.matcher;
 
 import io.github.agache41.annotator.annotations.Extends;
 
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -70,4 +71,26 @@ public class AnExtendsValue implements Matcher<Extends, Extends> {
         }
 
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(final Extends value) {
+        for (final Class<?> extended : value.value()) {
+            if (this.value.equals(extended)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean anyMatch(final Extends value,
+                            final Predicate<? super Extends> predicate) {
+        return this.matches(value) && predicate.test(value);
+    }
 }
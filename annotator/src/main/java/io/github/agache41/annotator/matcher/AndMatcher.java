@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.matcher;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * Node of the matcher tree implementing the logic and operator, see Matcher.and.
+ * The matched values are the ones of the second matcher, when the first one matches.
+ * The evaluation short-circuits when the first matcher does not match, without creating streams.
+ * </pre>
+ *
+ * @param <V> the type parameter of the reference value
+ * @param <R> the type parameter of the resulting filtered matching values
+ */
+final class AndMatcher<V, R> implements Matcher<V, R> {
+
+    private final Matcher<V, ?> condition;
+    private final Matcher<V, R> matcher;
+
+    /**
+     * <pre>
+     * Instantiates a new AndMatcher.
+     * </pre>
+     *
+     * @param condition the matcher that has to match
+     * @param matcher   the matcher providing the matched values
+     */
+    AndMatcher(final Matcher<V, ?> condition,
+               final Matcher<V, R> matcher) {
+        this.condition = condition;
+        this.matcher = matcher;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<R> match(final V value) {
+        if (!this.condition.matches(value)) {
+            return Stream.empty();
+        }
+        return this.matcher.match(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(final V value) {
+        return this.condition.matches(value) && this.matcher.matches(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean anyMatch(final V value,
+                            final Predicate<? super R> predicate) {
+        return this.condition.matches(value) && this.matcher.anyMatch(value,
+                                                                      predicate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<? extends Annotation>> requiredAnnotationTypes() {
+        final Set<Class<? extends Annotation>> types = this.condition.requiredAnnotationTypes();
+        return types != null ? types : this.matcher.requiredAnnotationTypes();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.matcher;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * Node of the matcher tree continuing the matching process of a matcher with a filter on the matched values,
+ * see Matcher.having, Matcher.matching, Matcher.that and Matcher.where.
+ * The evaluation stops at the first matched value passing the filter, without creating streams.
+ * </pre>
+ *
+ * @param <V> the type parameter of the reference value
+ * @param <M> the type parameter of the resulting filtered matching values
+ */
+final class FilterMatcher<V, M> implements Matcher<V, M> {
+
+    private final Matcher<V, M> source;
+    private final Predicate<M> filter;
+
+    /**
+     * <pre>
+     * Instantiates a new FilterMatcher.
+     * </pre>
+     *
+     * @param source the matcher providing the values
+     * @param filter the filter of the values
+     */
+    FilterMatcher(final Matcher<V, M> source,
+                  final Predicate<M> filter) {
+        this.source = source;
+        this.filter = filter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<M> match(final V value) {
+        return this.source
+                .match(value)
+                .filter(this.filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(final V value) {
+        return this.source.anyMatch(value,
+                                    this.filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean anyMatch(final V value,
+                            final Predicate<? super M> predicate) {
+        return this.source.anyMatch(value,
+                                    matched -> this.filter.test(matched) && predicate.test(matched));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<? extends Annotation>> requiredAnnotationTypes() {
+        return this.source.requiredAnnotationTypes();
+    }
+}
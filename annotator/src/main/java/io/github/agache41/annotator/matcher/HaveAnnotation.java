@@ -16,10 +16,15 @@
 
 package io.github.agache41.annotator.matcher;
 
+import io.github.agache41.annotator.accessor.Accessor;
 import io.github.agache41.annotator.annotator.Annotator;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -72,4 +77,52 @@ public class HaveAnnotation<M extends Annotation> implements Matcher<Object, M>
                 .filter(a -> Objects.equals(a
                                                     .annotationType(), this.annotationClass));
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(final Object value) {
+        return !this.annotations(value)
+                    .isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean anyMatch(final Object value,
+                            final Predicate<? super M> predicate) {
+        final List<M> annotations = this.annotations(value);
+        for (int index = 0, size = annotations.size(); index < size; index++) {
+            if (predicate.test(annotations.get(index))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<? extends Annotation>> requiredAnnotationTypes() {
+        return Collections.singleton(this.annotationClass);
+    }
+
+    /**
+     * <pre>
+     * Gets the annotations of the expected type of the given value.
+     * The accessors are answered from their own annotation map, without going through the annotator cache.
+     * </pre>
+     */
+    private List<M> annotations(final Object value) {
+        if (value instanceof Accessor) {
+            return ((Accessor<?>) value).getAnnotationMap()
+                                        .get(this.annotationClass);
+        }
+        return Annotator
+                .of(value)
+                .getAnnotationsOfType(this.annotationClass);
+    }
 }
@@ -67,4 +67,21 @@ public class Match<M> implements Matcher<M, M> {
             return Stream.empty();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(final M value) {
+        return this.predicate.test(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean anyMatch(final M value,
+                            final Predicate<? super M> predicate) {
+        return this.predicate.test(value) && predicate.test(value);
+    }
 }
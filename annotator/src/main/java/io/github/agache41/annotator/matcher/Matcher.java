@@ -16,12 +16,17 @@
 
 package io.github.agache41.annotator.matcher;
 
+import java.lang.annotation.Annotation;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
  * <pre>
  * The matcher interface defines the methods used for filtering annotations in selections.
+ * The combinators (or, and, having, that, where, matching) build a tree of matcher nodes.
+ * The boolean evaluation (matches, anyMatch) walks the tree and short-circuits without creating streams,
+ * while match returns the stream of the matched values, for the cases that need them.
  * </pre>
  *
  * @param <V> the type parameter of the reference value
@@ -48,10 +53,38 @@ public interface Matcher<V, M> {
      * @return true if it matches, false otherwise
      */
     default boolean matches(final V value) {
+        return this.anyMatch(value,
+                             matched -> true);
+    }
+
+    /**
+     * <pre>
+     * Tells if any of the values matched from the given value satisfies the given predicate.
+     * The matchers of this package override it to evaluate without creating streams.
+     * </pre>
+     *
+     * @param value     the reference value
+     * @param predicate the predicate on the matched values
+     * @return true if a matched value satisfies the predicate, false otherwise
+     */
+    default boolean anyMatch(final V value,
+                             final Predicate<? super M> predicate) {
         return this
                 .match(value)
-                .findAny()
-                .isPresent();
+                .anyMatch(predicate);
+    }
+
+    /**
+     * <pre>
+     * Gets the annotation types of which any value matching this matcher carries at least one.
+     * The queries of the annotators use them to take the candidates from a per-class index by annotation type
+     * and evaluate the matcher only on those candidates.
+     * </pre>
+     *
+     * @return the annotation types, or null if the matcher does not require any annotation type
+     */
+    default Set<Class<? extends Annotation>> requiredAnnotationTypes() {
+        return null;
     }
 
     /**
@@ -64,10 +97,8 @@ public interface Matcher<V, M> {
      * @return the composed matcher
      */
     default <R> Matcher<V, Object> or(final Matcher<V, R> matcher) {
-        return value -> Stream
-                .concat(Matcher.this.match(value),
-                        matcher.match(value))
-                .distinct();
+        return new OrMatcher<>(this,
+                               matcher);
     }
 
     /**
@@ -80,13 +111,8 @@ public interface Matcher<V, M> {
      * @return the composed matcher
      */
     default <R> Matcher<V, R> and(final Matcher<V, R> matcher) {
-        return value -> {
-            if (!Matcher.this.matches(value)) {
-                return Stream.empty();
-            }
-            return matcher
-                    .match(value);
-        };
+        return new AndMatcher<>(this,
+                                matcher);
     }
 
     /**
@@ -99,9 +125,8 @@ public interface Matcher<V, M> {
      * @return the composed matcher
      */
     default Matcher<V, M> having(final Matcher<M, M> matcher) {
-        return value -> Matcher.this
-                .match(value)
-                .filter(matcher::matches);
+        return new FilterMatcher<>(this,
+                                   matcher::matches);
     }
 
     /**
@@ -113,9 +138,8 @@ public interface Matcher<V, M> {
      * @return the matcher
      */
     default Matcher<V, M> that(final Predicate<M> predicate) {
-        return value -> Matcher.this
-                .match(value)
-                .filter(predicate::test);
+        return new FilterMatcher<>(this,
+                                   predicate);
     }
 
     /**
@@ -127,9 +151,8 @@ public interface Matcher<V, M> {
      * @return the matcher
      */
     default Matcher<V, M> where(final Predicate<M> predicate) {
-        return value -> Matcher.this
-                .match(value)
-                .filter(predicate::test);
+        return new FilterMatcher<>(this,
+                                   predicate);
     }
 
     /**
@@ -141,8 +164,7 @@ public interface Matcher<V, M> {
      * @return the matcher
      */
     default Matcher<V, M> matching(final Matcher<M, M> matcher) {
-        return value -> Matcher.this
-                .match(value)
-                .filter(matcher::matches);
+        return new FilterMatcher<>(this,
+                                   matcher::matches);
     }
 }
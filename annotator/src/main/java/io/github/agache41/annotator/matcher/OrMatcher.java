@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.matcher;
+
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * Node of the matcher tree implementing the logic or operator, see Matcher.or.
+ * The evaluation short-circuits on the first matcher that matches, without creating streams.
+ * </pre>
+ *
+ * @param <V> the type parameter of the reference value
+ */
+final class OrMatcher<V> implements Matcher<V, Object> {
+
+    private final Matcher<V, ?> left;
+    private final Matcher<V, ?> right;
+
+    /**
+     * <pre>
+     * Instantiates a new OrMatcher.
+     * </pre>
+     *
+     * @param left  the left matcher
+     * @param right the right matcher
+     */
+    OrMatcher(final Matcher<V, ?> left,
+              final Matcher<V, ?> right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Object> match(final V value) {
+        return Stream
+                .concat(this.left.match(value),
+                        this.right.match(value))
+                .distinct();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(final V value) {
+        return this.left.matches(value) || this.right.matches(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean anyMatch(final V value,
+                            final Predicate<? super Object> predicate) {
+        return this.left.anyMatch(value,
+                                  predicate) || this.right.anyMatch(value,
+                                                                    predicate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<? extends Annotation>> requiredAnnotationTypes() {
+        final Set<Class<? extends Annotation>> left = this.left.requiredAnnotationTypes();
+        final Set<Class<? extends Annotation>> right = this.right.requiredAnnotationTypes();
+        if (left == null || right == null) {
+            return null;
+        }
+        final Set<Class<? extends Annotation>> types = new HashSet<>(left);
+        types.addAll(right);
+        return types;
+    }
+}
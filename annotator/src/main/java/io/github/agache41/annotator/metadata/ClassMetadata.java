@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.metadata;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Precomputed metadata of a class, used by the ClassAnnotator instead of scanning the class with reflection.
+ * The described members are still looked up by name, and their annotations are still read with reflection.
+ * Implementations are generated at build time by the annotator-processor module,
+ * one class per processed type, named as the type with the suffix _AnnotatorMetadata.
+ * Example :
+ * MarkedClass is described by the generated class MarkedClass_AnnotatorMetadata.
+ * </pre>
+ */
+public interface ClassMetadata {
+
+    /**
+     * <pre>
+     * The suffix appended to the binary name of a type to obtain the name of its generated metadata class.
+     * </pre>
+     */
+    String SUFFIX = "_AnnotatorMetadata";
+
+    /**
+     * <pre>
+     * Gets the name of the described type.
+     * </pre>
+     *
+     * @return the type name
+     */
+    String getTypeName();
+
+    /**
+     * <pre>
+     * Gets the properties of the described type, including the inherited ones.
+     * </pre>
+     *
+     * @return the properties
+     */
+    List<PropertyMetadata> getProperties();
+
+    /**
+     * <pre>
+     * Tells if the properties describe all the fields of the type, including the inherited ones.
+     * The ClassAnnotator then looks up only the described fields and accessor methods by name and does not
+     * scan the class hierarchy. Fields not visible in the sources, like the synthetic ones, get no accessor.
+     * Incomplete metadata only overrides the described properties, the other fields are scanned with reflection.
+     * The generated metadata and the snapshots are complete.
+     * </pre>
+     *
+     * @return true if all the fields are described
+     */
+    default boolean isComplete() {
+        return false;
+    }
+
+    /**
+     * <pre>
+     * Tells if the metadata still describes the given class.
+     * Metadata that was not generated together with the class, like the one read from a snapshot,
+     * checks here that the class did not change in the meantime.
+     * </pre>
+     *
+     * @param clazz the class
+     * @return true if the metadata can be used for the class, false otherwise
+     */
+    default boolean isValidFor(final Class<?> clazz) {
+        return true;
+    }
+}
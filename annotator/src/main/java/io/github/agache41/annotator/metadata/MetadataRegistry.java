@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.metadata;
+
+import io.github.agache41.annotator.ClassCache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Registry of the precomputed class metadata.
+ * The metadata of a class is looked up once and cached:
+ * first in the explicitly registered metadata, then in the class generated by the annotator-processor module.
+ * Classes without metadata are scanned with reflection by the ClassAnnotator.
+ * </pre>
+ */
+public class MetadataRegistry {
+    private static final Map<String, ClassMetadata> registeredMetadata = new ConcurrentHashMap<>();
+    private static final ClassCache<Optional<ClassMetadata>> metadataCache = new ClassCache<>(MetadataRegistry::load);
+
+    /**
+     * <pre>
+     * Gets the precomputed metadata of the given class.
+     * </pre>
+     *
+     * @param clazz the class
+     * @return the metadata, or null if the class has no precomputed metadata
+     */
+    public static ClassMetadata of(final Class<?> clazz) {
+        return metadataCache.get(clazz)
+                            .orElse(null);
+    }
+
+    /**
+     * <pre>
+     * Registers the given metadata, taking precedence over the generated one.
+     * </pre>
+     *
+     * @param metadata the metadata
+     */
+    public static void register(final ClassMetadata metadata) {
+        registeredMetadata.put(metadata.getTypeName(),
+                               metadata);
+        metadataCache.invalidateAll();
+    }
+
+    /**
+     * <pre>
+     * Registers all the given metadata at once, taking precedence over the generated one.
+     * </pre>
+     *
+     * @param metadata the metadata
+     */
+    public static void registerAll(final Collection<? extends ClassMetadata> metadata) {
+        for (final ClassMetadata classMetadata : metadata) {
+            registeredMetadata.put(classMetadata.getTypeName(),
+                                   classMetadata);
+        }
+        metadataCache.invalidateAll();
+    }
+
+    /**
+     * <pre>
+     * Removes the registered metadata of the given class.
+     * </pre>
+     *
+     * @param clazz the class
+     */
+    public static void invalidate(final Class<?> clazz) {
+        registeredMetadata.remove(clazz.getName());
+        metadataCache.invalidate(clazz);
+    }
+
+    private static Optional<ClassMetadata> load(final Class<?> clazz) {
+        final ClassMetadata registered = registeredMetadata.get(clazz.getName());
+        if (registered != null && registered.isValidFor(clazz)) {
+            return Optional.of(registered);
+        }
+        final ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null || clazz.isArray() || clazz.isPrimitive()) {
+            return Optional.empty();
+        }
+        try {
+            final Class<?> metadataClass = Class.forName(clazz.getName() + ClassMetadata.SUFFIX,
+                                                         true,
+                                                         classLoader);
+            if (!ClassMetadata.class.isAssignableFrom(metadataClass)) {
+                return Optional.empty();
+            }
+            final ClassMetadata metadata = (ClassMetadata) metadataClass.getConstructor()
+                                                                        .newInstance();
+            if (!clazz.getName()
+                      .equals(metadata.getTypeName())) {
+                return Optional.empty();
+            }
+            return Optional.of(metadata);
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            // no generated metadata, the class is scanned with reflection
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.metadata;
+
+import io.github.agache41.annotator.Lazy;
+import io.github.agache41.annotator.accessor.Accessor;
+import io.github.agache41.annotator.annotator.Annotator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipFile;
+
+/**
+ * <pre>
+ * Binary snapshot of the class metadata, used to skip the reflective scanning of the classes at startup.
+ * After a warm-up the metadata of the annotated classes is written to a file.
+ * On the next start the file is memory-mapped and its entries are registered in the MetadataRegistry.
+ * Every entry holds a fingerprint of the class files of its class hierarchy and is only used
+ * if the class still has the same fingerprint, otherwise the class is scanned as usual.
+ * The fingerprint is built from the CRC32 and the size of the class files, taken from the central directory
+ * for the classes packaged in an archive and from the class bytes for the classes in a class directory.
+ * An entry holds, per root property, the field name and its declaring class, the getter and setter names,
+ * the position and the recurse flag. Nested accessor paths, member signatures and annotation values are not stored:
+ * on rehydration the members are looked up by name, the annotations are read reflectively
+ * and the @Recurse properties are expanded reflectively, like for the generated metadata.
+ * The properties of an entry are decoded from the mapped file when the class is first used.
+ * Example :
+ * MetadataSnapshot.write(snapshotFile);   // after warm-up
+ * MetadataSnapshot.read(snapshotFile);    // on the next start, before using the Annotator
+ * </pre>
+ */
+public final class MetadataSnapshot {
+    private static final int MAGIC = 0x414E4D53;
+    private static final int VERSION = 3;
+    private static final int NULL_STRING = -1;
+    private static final long RUNTIME_STAMP = System.getProperty("java.runtime.version", "")
+                                                    .hashCode() | 1L;
+    private static final Map<Path, JarFile> ARCHIVES = new ConcurrentHashMap<>();
+
+    private MetadataSnapshot() {
+    }
+
+    /**
+     * <pre>
+     * Writes the metadata of all the classes currently known to the Annotator to the given file.
+     * </pre>
+     *
+     * @param file the snapshot file
+     * @return the number of classes written
+     * @throws IOException if the file can not be written
+     */
+    public static int write(final Path file) throws IOException {
+        return write(file,
+                     Annotator.getAnnotatedClasses());
+    }
+
+    /**
+     * <pre>
+     * Writes the metadata of the given classes to the given file.
+     * Annotation types, classes with generated metadata and classes without a located class file are skipped.
+     * </pre>
+     *
+     * @param file    the snapshot file
+     * @param classes the classes
+     * @return the number of classes written
+     * @throws IOException if the file can not be written
+     */
+    public static int write(final Path file,
+                            final Collection<Class<?>> classes) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        final List<byte[]> entries = new ArrayList<>();
+        for (final Class<?> clazz : classes) {
+            if (clazz.isAnnotation()) {
+                continue;
+            }
+            final ClassMetadata metadata = MetadataRegistry.of(clazz);
+            final long fingerprint = fingerprint(clazz);
+            if (fingerprint == 0 || (metadata != null && !(metadata instanceof SnapshotMetadata))) {
+                continue;
+            }
+            entries.add(entry(clazz,
+                              fingerprint));
+        }
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(entries.size());
+        for (final byte[] entry : entries) {
+            output.writeInt(entry.length);
+            output.write(entry);
+        }
+        output.flush();
+        Files.write(file,
+                    bytes.toByteArray());
+        return entries.size();
+    }
+
+    /**
+     * <pre>
+     * Reads the given snapshot file and registers its entries in the MetadataRegistry.
+     * </pre>
+     *
+     * @param file the snapshot file
+     * @return the number of classes registered
+     * @throws IOException if the file can not be read or is not a snapshot
+     */
+    public static int read(final Path file) throws IOException {
+        final ByteBuffer buffer;
+        try (final FileChannel channel = FileChannel.open(file,
+                                                          StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                                 0,
+                                 channel.size());
+        }
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+            throw new IOException(" File " + file + " is not an annotator metadata snapshot!");
+        }
+        final int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException(" Unsupported snapshot version " + version + " in file " + file + "!");
+        }
+        final int count = buffer.getInt();
+        final List<SnapshotMetadata> metadata = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            final int length = buffer.getInt();
+            final ByteBuffer entry = buffer.slice();
+            entry.limit(length);
+            buffer.position(buffer.position() + length);
+            metadata.add(new SnapshotMetadata(entry));
+        }
+        MetadataRegistry.registerAll(metadata);
+        return metadata.size();
+    }
+
+    private static byte[] entry(final Class<?> clazz,
+                                final long fingerprint) throws IOException {
+        final List<Accessor<?>> accessors = Annotator.of(clazz)
+                                                     .getAccessors()
+                                                     .filter(Accessor::isAtRootLevel)
+                                                     .filter(accessor -> accessor.getField() != null)
+                                                     .sorted(Comparator.comparing(Accessor::getName))
+                                                     .collect(Collectors.toList());
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        writeString(output,
+                    clazz.getName());
+        output.writeLong(fingerprint);
+        output.writeInt(accessors.size());
+        for (final Accessor<?> accessor : accessors) {
+            writeString(output,
+                        accessor.getName());
+            writeString(output,
+                        accessor.getField()
+                                .getDeclaringClass()
+                                .getName());
+            writeString(output,
+                        accessor.getGetter() == null ? null : accessor.getGetter()
+                                                                      .getName());
+            writeString(output,
+                        accessor.getSetter() == null ? null : accessor.getSetter()
+                                                                      .getName());
+            output.writeInt(accessor.getPosition());
+            output.writeBoolean(!accessor.isLeaf());
+        }
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * <pre>
+     * Computes the fingerprint of the class from the content of the class files of its hierarchy.
+     * A class in a class directory is stamped with the CRC32 and the length of its class file bytes.
+     * A class packaged in an archive is stamped with the CRC32 and the size of its entry, taken from the
+     * central directory of the archive, so the entry is not inflated. The archives are opened once and kept open.
+     * Modification times are never used, so archives built with fixed timestamps are still told apart.
+     * </pre>
+     *
+     * @param clazz the class
+     * @return the fingerprint, or 0 if a class file can not be located
+     */
+    static long fingerprint(final Class<?> clazz) {
+        long fingerprint = 1;
+        Class<?> classType = clazz;
+        while (classType != null && !classType.equals(Object.class)) {
+            final long stamp = stamp(classType);
+            if (stamp == 0) {
+                return 0;
+            }
+            fingerprint = 31 * fingerprint + stamp;
+            classType = classType.getSuperclass();
+        }
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private static long stamp(final Class<?> classType) {
+        try {
+            final CodeSource codeSource = classType.getProtectionDomain()
+                                                   .getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                // the classes of the runtime only change with the runtime
+                return RUNTIME_STAMP;
+            }
+            final Path location = Paths.get(codeSource.getLocation()
+                                                      .toURI());
+            final String entryName = classType.getName()
+                                              .replace('.', '/') + ".class";
+            if (Files.isDirectory(location)) {
+                final byte[] bytes = Files.readAllBytes(location.resolve(entryName));
+                final CRC32 crc = new CRC32();
+                crc.update(bytes);
+                return stamp(crc.getValue(),
+                             bytes.length);
+            }
+            final JarEntry entry = ARCHIVES.computeIfAbsent(location,
+                                                           MetadataSnapshot::open)
+                                           .getJarEntry(entryName);
+            if (entry == null || entry.getCrc() == -1 || entry.getSize() == -1) {
+                return 0;
+            }
+            return stamp(entry.getCrc(),
+                         entry.getSize());
+        } catch (final IOException | UncheckedIOException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException | SecurityException e) {
+            return 0;
+        }
+    }
+
+    private static long stamp(final long crc,
+                              final long size) {
+        final long stamp = crc << 32 | (size & 0xFFFFFFFFL);
+        return stamp == 0 ? 1 : stamp;
+    }
+
+    private static JarFile open(final Path archive) {
+        try {
+            // the entries of a multi release archive are resolved for the running version, like the class loader does
+            return new JarFile(archive.toFile(),
+                               false,
+                               ZipFile.OPEN_READ,
+                               JarFile.runtimeVersion());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(final DataOutputStream output,
+                                    final String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_STRING);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes,
+                          StandardCharsets.UTF_8);
+    }
+
+    /**
+     * <pre>
+     * The metadata of a class read from a snapshot.
+     * The header is decoded on read, the properties when the class is first used.
+     * </pre>
+     */
+    private static class SnapshotMetadata implements ClassMetadata {
+        private final String typeName;
+        private final long fingerprint;
+        private final Lazy<List<PropertyMetadata>> properties;
+
+        private SnapshotMetadata(final ByteBuffer entry) {
+            this.typeName = readString(entry);
+            this.fingerprint = entry.getLong();
+            final ByteBuffer body = entry.slice();
+            this.properties = Lazy.of(() -> properties(body.duplicate()));
+        }
+
+        private static List<PropertyMetadata> properties(final ByteBuffer body) {
+            final int count = body.getInt();
+            final List<PropertyMetadata> properties = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) {
+                properties.add(new PropertyMetadata(readString(body),
+                                                    readString(body),
+                                                    readString(body),
+                                                    readString(body),
+                                                    body.getInt(),
+                                                    body.get() != 0));
+            }
+            return Collections.unmodifiableList(properties);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getTypeName() {
+            return this.typeName;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<PropertyMetadata> getProperties() {
+            return this.properties.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isComplete() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isValidFor(final Class<?> clazz) {
+            return this.fingerprint == fingerprint(clazz);
+        }
+    }
+}
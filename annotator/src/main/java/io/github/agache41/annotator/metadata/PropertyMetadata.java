@@ -0,0 +1,176 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.metadata;
+
+import io.github.agache41.annotator.accessor.Binding;
+
+/**
+ * <pre>
+ * Precomputed metadata of a class property, a field with its optional getter and setter.
+ * </pre>
+ */
+public final class PropertyMetadata {
+    private final String name;
+    private final String declaringClassName;
+    private final String getterName;
+    private final String setterName;
+    private final int position;
+    private final boolean recurse;
+    private final Binding binding;
+
+    /**
+     * <pre>
+     * Instantiates a new PropertyMetadata.
+     * </pre>
+     *
+     * @param name               the field name
+     * @param declaringClassName the binary name of the class declaring the field
+     * @param getterName         the getter name, null if there is no getter
+     * @param setterName         the setter name, null if there is no setter
+     * @param position           the position, Accessor.NO_POSITION if there is none
+     * @param recurse            tells if the property is embedded with @Recurse
+     */
+    public PropertyMetadata(final String name,
+                            final String declaringClassName,
+                            final String getterName,
+                            final String setterName,
+                            final int position,
+                            final boolean recurse) {
+        this(name,
+             declaringClassName,
+             getterName,
+             setterName,
+             position,
+             recurse,
+             null);
+    }
+
+    /**
+     * <pre>
+     * Instantiates a new PropertyMetadata with a generated binding.
+     * </pre>
+     *
+     * @param name               the field name
+     * @param declaringClassName the binary name of the class declaring the field
+     * @param getterName         the getter name, null if there is no getter
+     * @param setterName         the setter name, null if there is no setter
+     * @param position           the position, Accessor.NO_POSITION if there is none
+     * @param recurse            tells if the property is embedded with @Recurse
+     * @param binding            the generated binding, null if the property can not be accessed from generated code
+     */
+    public PropertyMetadata(final String name,
+                            final String declaringClassName,
+                            final String getterName,
+                            final String setterName,
+                            final int position,
+                            final boolean recurse,
+                            final Binding binding) {
+        this.name = name;
+        this.declaringClassName = declaringClassName;
+        this.getterName = getterName;
+        this.setterName = setterName;
+        this.position = position;
+        this.recurse = recurse;
+        this.binding = binding;
+    }
+
+    /**
+     * <pre>
+     * Gets the field name.
+     * </pre>
+     *
+     * @return the name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * <pre>
+     * Gets the binary name of the class declaring the field.
+     * </pre>
+     *
+     * @return the declaring class name
+     */
+    public String getDeclaringClassName() {
+        return this.declaringClassName;
+    }
+
+    /**
+     * <pre>
+     * Gets the getter name.
+     * </pre>
+     *
+     * @return the getter name, null if there is no getter
+     */
+    public String getGetterName() {
+        return this.getterName;
+    }
+
+    /**
+     * <pre>
+     * Gets the setter name.
+     * </pre>
+     *
+     * @return the setter name, null if there is no setter
+     */
+    public String getSetterName() {
+        return this.setterName;
+    }
+
+    /**
+     * <pre>
+     * Gets the position.
+     * </pre>
+     *
+     * @return the position
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * <pre>
+     * Tells if the property is embedded with @Recurse.
+     * </pre>
+     *
+     * @return true if embedded, false otherwise
+     */
+    public boolean isRecurse() {
+        return this.recurse;
+    }
+
+    /**
+     * <pre>
+     * Gets the binding generated for the property.
+     * </pre>
+     *
+     * @return the binding, or null if the property has no generated binding
+     */
+    public Binding getBinding() {
+        return this.binding;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return this.declaringClassName + "." + this.name;
+    }
+}
@@ -16,9 +16,11 @@
 
 package io.github.agache41.annotator.predicate;
 
+import io.github.agache41.annotator.AnnotationView;
 import io.github.agache41.annotator.accessor.Accessor;
 import io.github.agache41.annotator.annotator.Annotator;
 
+import java.lang.annotation.Annotation;
 import java.util.function.Predicate;
 
 /**
@@ -38,7 +40,7 @@ public class AreInDefaultOrInView<M> implements Predicate<M> {
     /**
      * The default view
      */
-    public static final String DEFAULT = "default";
+    public static final String DEFAULT = AnnotationView.DEFAULT;
 
     private final String viewValue;
 
@@ -71,6 +73,13 @@ public class AreInDefaultOrInView<M> implements Predicate<M> {
      */
     @Override
     public boolean test(final M m) {
+        if (m instanceof Annotation) {
+            final Annotation annotation = (Annotation) m;
+            final AnnotationView annotationView = AnnotationView.of(annotation.annotationType());
+            // if the Annotation does not have the view field, it will be automatically allowed.
+            return annotationView.isInDefault(annotation) || annotationView.isInView(annotation,
+                                                                                     this.viewValue);
+        }
         final Accessor<?> viewAcc = Annotator
                 .of(m)
                 .getAccessor("view");
@@ -16,9 +16,11 @@
 
 package io.github.agache41.annotator.predicate;
 
+import io.github.agache41.annotator.AnnotationView;
 import io.github.agache41.annotator.accessor.Accessor;
 import io.github.agache41.annotator.annotator.Annotator;
 
+import java.lang.annotation.Annotation;
 import java.util.function.Predicate;
 
 /**
@@ -66,6 +68,12 @@ public class AreOnlyInView<M> implements Predicate<M> {
      */
     @Override
     public boolean test(final M m) {
+        if (m instanceof Annotation) {
+            final Annotation annotation = (Annotation) m;
+            return AnnotationView.of(annotation.annotationType())
+                                 .isInView(annotation,
+                                           this.viewValue);
+        }
         final Accessor<?> viewAcc = Annotator
                 .of(m)
                 .getAccessor("view");
@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.predicate;
+
+import io.github.agache41.annotator.AnnotationView;
+import io.github.agache41.annotator.ViewMask;
+import io.github.agache41.annotator.ViewRegistry;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Predicate;
+
+/**
+ * <pre>
+ * Implementation for the Predicate for filtering the annotation in views, based on the view ids of the ViewRegistry.
+ * Only the annotations naming the view are allowed.
+ * Example:
+ * Annotator.of(value)
+ *          .getAnnotations(Column.class)
+ *          .filter(AreOnlyInViewId.of(ViewRegistry.idOf("v1")))
+ *          .collect(Collectors.toList());
+ * </pre>
+ *
+ * @param <M> the type parameter
+ */
+public class AreOnlyInViewId<M extends Annotation> implements Predicate<M> {
+
+    private final String view;
+    private volatile ViewMask views;
+
+    /**
+     * <pre>
+     * Instantiates a new AreOnlyInViewId based on the view id.
+     * </pre>
+     *
+     * @param viewId the view id
+     */
+    public AreOnlyInViewId(final int viewId) {
+        this.view = null;
+        this.views = viewId == ViewRegistry.NO_ID ? ViewMask.EMPTY : ViewMask.of(viewId);
+    }
+
+    private AreOnlyInViewId(final String view) {
+        final int viewId = ViewRegistry.find(view);
+        this.view = view;
+        this.views = viewId == ViewRegistry.NO_ID ? null : ViewMask.of(viewId);
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a AreOnlyInViewId based on the view id.
+     * </pre>
+     *
+     * @param <M>    the type parameter
+     * @param viewId the view id
+     * @return the are only in view id
+     */
+    public static <M extends Annotation> AreOnlyInViewId<M> of(final int viewId) {
+        return new AreOnlyInViewId<>(viewId);
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a AreOnlyInViewId based on the view name.
+     * The view is looked up without being registered, it is resolved once an annotation names it.
+     * </pre>
+     *
+     * @param <M>  the type parameter
+     * @param view the view name
+     * @return the are only in view id
+     */
+    public static <M extends Annotation> AreOnlyInViewId<M> of(final String view) {
+        return new AreOnlyInViewId<>(view);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(final M m) {
+        final AnnotationView annotationView = AnnotationView.of(m.annotationType());
+        // the views of the annotation are registered before the view of the predicate is resolved
+        return annotationView.hasView() && annotationView.getViewMask(m)
+                                                         .intersects(this.views());
+    }
+
+    private ViewMask views() {
+        ViewMask views = this.views;
+        if (views == null) {
+            final int viewId = ViewRegistry.find(this.view);
+            if (viewId == ViewRegistry.NO_ID) {
+                return ViewMask.EMPTY;
+            }
+            views = ViewMask.of(viewId);
+            this.views = views;
+        }
+        return views;
+    }
+}
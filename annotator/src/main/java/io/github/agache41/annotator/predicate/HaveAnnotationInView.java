@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.predicate;
+
+import io.github.agache41.annotator.ViewMask;
+import io.github.agache41.annotator.ViewRegistry;
+import io.github.agache41.annotator.accessor.Accessor;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Predicate;
+
+/**
+ * <pre>
+ * Implementation for the Predicate for filtering the accessors having an annotation of the given type
+ * available in the given view (in the view or in the default view).
+ * The test is a bitwise AND of the view masks kept in the annotation map of the accessor.
+ * Example:
+ * Annotator.of(value)
+ *          .getAccessors()
+ *          .filter(HaveAnnotationInView.of(Column.class, ViewRegistry.idOf("v1")))
+ *          .collect(Collectors.toList());
+ * </pre>
+ *
+ * @param <A> the annotation type
+ */
+public class HaveAnnotationInView<A extends Annotation> implements Predicate<Accessor<?>> {
+
+    private final Class<A> annotationType;
+    private final ViewMask views;
+
+    /**
+     * <pre>
+     * Instantiates a new HaveAnnotationInView based on the annotation type and the view id.
+     * </pre>
+     *
+     * @param annotationType the annotation type
+     * @param viewId         the view id, NO_ID for a view that is not registered
+     */
+    public HaveAnnotationInView(final Class<A> annotationType,
+                                final int viewId) {
+        this.annotationType = annotationType;
+        this.views = viewId == ViewRegistry.NO_ID ? ViewMask.of(ViewRegistry.DEFAULT_ID) : ViewMask.of(ViewRegistry.DEFAULT_ID,
+                                                                                                      viewId);
+    }
+
+    /**
+     * <pre>
+     * Static provider method used to create a HaveAnnotationInView based on the annotation type and the view id.
+     * </pre>
+     *
+     * @param <A>            the annotation type
+     * @param annotationType the annotation type
+     * @param viewId         the view id, NO_ID for a view that is not registered
+     * @return the have annotation in view
+     */
+    public static <A extends Annotation> HaveAnnotationInView<A> of(final Class<A> annotationType,
+                                                                    final int viewId) {
+        return new HaveAnnotationInView<>(annotationType,
+                                          viewId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(final Accessor<?> accessor) {
+        return accessor.getAnnotationMap()
+                       .getViewIndex(this.annotationType)
+                       .getViewMask()
+                       .intersects(this.views);
+    }
+}
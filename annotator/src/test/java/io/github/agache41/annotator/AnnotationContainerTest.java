@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator;
+
+import io.github.agache41.annotator.annotator.MarkedClass;
+import io.github.agache41.annotator.annotator.Multiple;
+import io.github.agache41.annotator.annotator.Multiples;
+import io.github.agache41.annotator.annotator.TestExtendsWithValue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AnnotationContainerTest {
+
+    @Test
+    public void testAnnotationContainer() throws NoSuchFieldException {
+        Assertions.assertTrue(AnnotationContainer.of(Multiples.class)
+                                                 .isContainer());
+        Assertions.assertFalse(AnnotationContainer.of(Multiple.class)
+                                                  .isContainer());
+        Assertions.assertFalse(AnnotationContainer.of(TestExtendsWithValue.class)
+                                                  .isContainer());
+        Assertions.assertSame(AnnotationContainer.of(Multiples.class), AnnotationContainer.of(Multiples.class));
+        final Multiples multiples = MarkedClass.class.getDeclaredField("multipleAnnotation")
+                                                     .getAnnotation(Multiples.class);
+        Assertions.assertEquals(2, AnnotationContainer.of(Multiples.class)
+                                                      .unpack(multiples).length);
+        Assertions.assertNull(AnnotationContainer.of(Multiple.class)
+                                                 .unpack(multiples.value()[0]));
+    }
+}
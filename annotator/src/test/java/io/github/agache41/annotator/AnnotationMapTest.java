@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator;
+
+import io.github.agache41.annotator.accessor.Accessor;
+import io.github.agache41.annotator.annotations.Extends;
+import io.github.agache41.annotator.annotator.Annotate;
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.annotator.MarkedClass;
+import io.github.agache41.annotator.annotator.Multiple;
+import io.github.agache41.annotator.annotator.Multiples;
+import io.github.agache41.annotator.annotator.TestExtends;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+class AnnotationMapTest {
+
+    @Test
+    public void testAnnotationsOfType() throws NoSuchFieldException {
+        final Annotate<Field> field = Annotator.of(MarkedClass.class.getDeclaredField("multipleAnnotation"));
+        Assertions.assertTrue(field.hasAnnotation(Multiple.class));
+        Assertions.assertFalse(field.hasAnnotation(Multiples.class));
+        Assertions.assertEquals(Arrays.asList("one", "two"), field.getAnnotationsOfType(Multiple.class)
+                                                                  .stream()
+                                                                  .map(Multiple::value)
+                                                                  .collect(Collectors.toList()));
+        Assertions.assertSame(field.getAnnotationsOfType(Multiple.class), field.getAnnotationsOfType(Multiple.class));
+        Assertions.assertTrue(field.getAnnotationsOfType(Extends.class)
+                                   .isEmpty());
+        final Accessor<?> accessor = Annotator.of(MarkedClass.class)
+                                              .getAccessor("multipleAnnotation");
+        Assertions.assertEquals(2, accessor.getAnnotations(Multiple.class)
+                                           .size());
+        Assertions.assertTrue(Annotator.of(MarkedClass.class)
+                                       .hasAnnotation(TestExtends.class));
+    }
+}
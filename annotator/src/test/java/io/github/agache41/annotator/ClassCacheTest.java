@@ -0,0 +1,61 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator;
+
+import io.github.agache41.annotator.annotator.InnerClass;
+import io.github.agache41.annotator.annotator.Multiple;
+import io.github.agache41.annotator.annotator.Multiples;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class ClassCacheTest {
+
+    @Test
+    public void testBoundedClassCache() {
+        final ClassCache<String> cache = new ClassCache<>(Class::getSimpleName, 2);
+        Assertions.assertEquals("Multiple", cache.get(Multiple.class));
+        Assertions.assertEquals("Multiples", cache.get(Multiples.class));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("InnerClass", cache.get(InnerClass.class));
+        Assertions.assertEquals(2, cache.size());
+        // the oldest value was evicted
+        Assertions.assertNull(cache.getIfPresent(Multiple.class));
+        Assertions.assertEquals("InnerClass", cache.getIfPresent(InnerClass.class));
+        cache.invalidate(InnerClass.class);
+        Assertions.assertNull(cache.getIfPresent(InnerClass.class));
+        Assertions.assertEquals(1, cache.size());
+        cache.invalidateAll();
+        Assertions.assertNull(cache.getIfPresent(Multiples.class));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClassCacheEvictionListener() {
+        final List<Class<?>> evicted = new ArrayList<>();
+        final ClassCache<String> cache = new ClassCache<>(Class::getSimpleName, 1, evicted::add);
+        cache.get(Multiple.class);
+        cache.get(Multiples.class);
+        Assertions.assertEquals(Collections.singletonList(Multiple.class), evicted);
+        // explicit invalidations are not notified
+        cache.invalidate(Multiples.class);
+        Assertions.assertEquals(1, evicted.size());
+    }
+}
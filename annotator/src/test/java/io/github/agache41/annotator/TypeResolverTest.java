@@ -0,0 +1,47 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator;
+
+import io.github.agache41.annotator.annotator.Annotate;
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.annotator.GenericClasses;
+import io.github.agache41.annotator.annotator.MarkedClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+
+class TypeResolverTest {
+
+    @Test
+    public void testTypeResolver() {
+        Assertions.assertArrayEquals(new Type[]{MarkedClass.class, Long.class}, TypeResolver.getTypeArguments(GenericClasses.MarkedClassDao.class, GenericClasses.Dao.class));
+        Assertions.assertArrayEquals(new Class<?>[]{MarkedClass.class, Long.class}, Annotator.of(GenericClasses.MarkedClassDao.class)
+                                                                                             .getParameterizedTypesForImplementedInterface(GenericClasses.Dao.class, true));
+        Assertions.assertEquals(Long.class, Helper.getActualClassForGenericInterfaceByIndex(GenericClasses.MarkedClassDao.class, GenericClasses.Dao.class, 1));
+        Assertions.assertNull(TypeResolver.getTypeArguments(MarkedClass.class, GenericClasses.Dao.class));
+        final Annotate<Class<GenericClasses.Holder>> holder = Annotator.of(GenericClasses.Holder.class);
+        Assertions.assertEquals(String.class, holder.getAccessor("wrapper.value")
+                                                    .getResolvedType());
+        Assertions.assertEquals("java.util.List<java.lang.String>", holder.getAccessor("wrapper.values")
+                                                                          .getResolvedType()
+                                                                          .getTypeName());
+        Assertions.assertEquals(Object.class, Annotator.of(GenericClasses.Wrapper.class)
+                                                       .getAccessor("value")
+                                                       .getResolvedClass());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator;
+
+import io.github.agache41.annotator.accessor.Accessor;
+import io.github.agache41.annotator.annotator.Annotate;
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.annotator.Column;
+import io.github.agache41.annotator.annotator.ViewedClass;
+import io.github.agache41.annotator.predicate.AreInDefaultOrInView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+
+class ViewIndexTest {
+
+    @Test
+    public void testAnnotationForView() {
+        final Annotate<Class<ViewedClass>> annotate = Annotator.of(ViewedClass.class);
+        final Accessor<?> code = annotate.getAccessor("code");
+        Assertions.assertEquals("CODE_V1", Annotator.getAnnotationForView(code, Column.class, "v1")
+                                                    .value());
+        Assertions.assertEquals("CODE_V2", Annotator.getAnnotationForView(code, Column.class, "v2")
+                                                    .value());
+        Assertions.assertNull(Annotator.getAnnotationForView(code, Column.class, "v3"));
+        Assertions.assertThrows(RuntimeException.class, () -> Annotator.getAnnotationForView(code, Column.class, "v3", true));
+        // the default annotation is available in every view, so it conflicts with the one of the view
+        Assertions.assertThrows(RuntimeException.class, () -> Annotator.getAnnotationForView(annotate.getAccessor("name"), Column.class, "v1"));
+        Assertions.assertEquals("name", Annotator.getAnnotationForView(annotate.getAccessor("name"), Column.class, "v2")
+                                                 .value());
+        Assertions.assertEquals("ID_DEFAULT", Annotator.getAnnotationForView(annotate.getAccessor("id"), Column.class, "v1")
+                                                       .value());
+        Assertions.assertSame(Annotator.of(code)
+                                       .getAnnotationsForView(Column.class, "v1"), Annotator.of(code)
+                                                                                            .getAnnotationsForView(Column.class, "v1"));
+        Assertions.assertEquals(code.getAnnotations(Column.class)
+                                    .stream()
+                                    .filter(AreInDefaultOrInView.of("v2"))
+                                    .collect(Collectors.toList()), Annotator.of(code)
+                                                                            .getAnnotationsForView(Column.class, "v2"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator;
+
+import io.github.agache41.annotator.accessor.Accessor;
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.annotator.Column;
+import io.github.agache41.annotator.annotator.LateViewClass;
+import io.github.agache41.annotator.annotator.ViewedClass;
+import io.github.agache41.annotator.predicate.AreInDefaultOrInViewId;
+import io.github.agache41.annotator.predicate.AreOnlyInViewId;
+import io.github.agache41.annotator.predicate.HaveAnnotationInView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class ViewRegistryTest {
+
+    @Test
+    public void testViewIds() {
+        final int v1 = ViewRegistry.idOf("v1");
+        Assertions.assertEquals(ViewRegistry.DEFAULT_ID, ViewRegistry.idOf("DEFAULT"));
+        Assertions.assertEquals(v1, ViewRegistry.idOf("v1"));
+        Assertions.assertEquals("v1", ViewRegistry.nameOf(v1));
+        Assertions.assertEquals(ViewRegistry.NO_ID, ViewRegistry.find("never-used-view"));
+        final ViewMask mask = ViewMask.of(ViewRegistry.DEFAULT_ID, 70);
+        Assertions.assertTrue(mask.contains(70));
+        Assertions.assertFalse(mask.contains(v1));
+        Assertions.assertTrue(mask.intersects(ViewMask.of(70)));
+        Assertions.assertEquals(ViewMask.of(v1), ViewMask.of(v1)
+                                                         .or(ViewMask.EMPTY));
+        final Accessor<?> code = Annotator.of(ViewedClass.class)
+                                          .getAccessor("code");
+        Assertions.assertEquals(Collections.singletonList("CODE_V1"), code.getAnnotations(Column.class)
+                                                                          .stream()
+                                                                          .filter(AreInDefaultOrInViewId.of(v1))
+                                                                          .map(Column::value)
+                                                                          .collect(Collectors.toList()));
+        Assertions.assertEquals(Annotator.of(code)
+                                         .getAnnotationsForView(Column.class, "v2"), code.getAnnotationMap()
+                                                                                         .getViewIndex(Column.class)
+                                                                                         .get(ViewRegistry.idOf("v2")));
+        Assertions.assertEquals(Arrays.asList("code", "id", "name"), Annotator.of(ViewedClass.class)
+                                                                              .getAccessors()
+                                                                              .filter(HaveAnnotationInView.of(Column.class, v1))
+                                                                              .map(Accessor::getName)
+                                                                              .sorted()
+                                                                              .collect(Collectors.toList()));
+        // a view that no annotation declares matches the default view only, without registering it
+        Assertions.assertEquals(Arrays.asList("id", "name"), Annotator.of(ViewedClass.class)
+                                                                      .getAccessors()
+                                                                      .filter(HaveAnnotationInView.of(Column.class, ViewRegistry.find("v3")))
+                                                                      .map(Accessor::getName)
+                                                                      .sorted()
+                                                                      .collect(Collectors.toList()));
+        Assertions.assertTrue(Annotator.of(ViewedClass.class)
+                                       .getAccessor("id")
+                                       .getAnnotations(Column.class)
+                                       .stream()
+                                       .noneMatch(AreOnlyInViewId.of(v1)));
+    }
+
+    @Test
+    public void testViewPredicatesByName() throws NoSuchFieldException {
+        final AreOnlyInViewId<Column> onlyLate = AreOnlyInViewId.of("late");
+        final AreInDefaultOrInViewId<Column> defaultOrLate = AreInDefaultOrInViewId.of("late");
+        // querying a view does not register it
+        Assertions.assertEquals(ViewRegistry.NO_ID, ViewRegistry.find("late"));
+        final Column[] columns = LateViewClass.class.getDeclaredField("late")
+                                                    .getAnnotationsByType(Column.class);
+        Assertions.assertEquals(Collections.singletonList("LATE"), Stream.of(columns)
+                                                                         .filter(onlyLate)
+                                                                         .map(Column::value)
+                                                                         .collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList("plain", "LATE"), Stream.of(columns)
+                                                                      .filter(defaultOrLate)
+                                                                      .map(Column::value)
+                                                                      .collect(Collectors.toList()));
+        Assertions.assertSame(AnnotationView.of(Column.class)
+                                            .getViewMask(columns[1]), AnnotationView.of(Column.class)
+                                                                                    .getViewMask(columns[1]));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.annotator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ExtendWith(ResetRegistry.class)
+class AnnotatedAccessorIndexTest {
+
+    @Test
+    public void testAccessorsAnnotatedWith() {
+        Annotator.of(MarkedClass.class)
+                 .getAccessors()
+                 .count();
+        final List<String> annotated = Annotator.getAccessorsAnnotatedWith(TestExtendsWithValue.class)
+                                                .stream()
+                                                .filter(entry -> entry.getAnnotatedClass()
+                                                                      .equals(MarkedClass.class))
+                                                .map(entry -> entry.getAccessor()
+                                                                   .getName() + "=" + entry.getAnnotation()
+                                                                                           .value())
+                                                .sorted()
+                                                .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList("annotatedWithBoth=myBothValue", "annotatedWithValue=myValue"), annotated);
+        // the cached result is reused until a class carrying the annotation type is added or removed
+        final int cached = System.identityHashCode(Annotator.getAccessorsAnnotatedWith(TestExtendsWithValue.class));
+        System.gc();
+        Assertions.assertEquals(cached, System.identityHashCode(Annotator.getAccessorsAnnotatedWith(TestExtendsWithValue.class)));
+        Annotator.invalidate(MarkedClass.class);
+        Assertions.assertTrue(Annotator.getAccessorsAnnotatedWith(TestExtendsWithValue.class)
+                                       .stream()
+                                       .noneMatch(entry -> entry.getAnnotatedClass()
+                                                                .equals(MarkedClass.class)));
+    }
+}
@@ -26,7 +26,11 @@ import org.junit.jupiter.api.Test;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -174,4 +178,31 @@ class AnnotatorTest {
                                                         .getAccessor("multipleAnnotation");
         System.out.println(multipleAnnotation.getAnnotations());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testConcurrentRegistryAccess() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Annotate<Class<Multiples>>>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> Annotator.of(Multiples.class)));
+            }
+            final Annotate<Class<Multiples>> expected = Annotator.of(Multiples.class);
+            for (final Future<Annotate<Class<Multiples>>> future : futures) {
+                Assertions.assertSame(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidate() {
+        final Annotate<Class<Multiples>> before = Annotator.of(Multiples.class);
+        Assertions.assertSame(before, Annotator.of(Multiples.class));
+        Annotator.invalidate(Multiples.class);
+        final Annotate<Class<Multiples>> after = Annotator.of(Multiples.class);
+        Assertions.assertNotSame(before, after);
+        Assertions.assertSame(after, Annotator.of(Multiples.class));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.annotator;
+
+import io.github.agache41.annotator.ViewRegistry;
+import io.github.agache41.annotator.accessor.Accessor;
+import io.github.agache41.annotator.matcher.HaveAnnotation;
+import io.github.agache41.annotator.matcher.Match;
+import io.github.agache41.annotator.matcher.Matcher;
+import io.github.agache41.annotator.predicate.AreOnlyInViewId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+class ClassAnnotatorTest {
+
+    @Test
+    public void testIndexedQueries() {
+        final Annotate<Class<ViewedClass>> annotate = Annotator.of(ViewedClass.class);
+        final int v2 = ViewRegistry.idOf("v2");
+        final Matcher<Object, Column> inV2 = HaveAnnotation.ofType(Column.class)
+                                                           .that(AreOnlyInViewId.of(v2));
+        Assertions.assertEquals(Collections.singleton(Column.class), inV2.requiredAnnotationTypes());
+        Assertions.assertEquals(Collections.singletonList("code"), annotate.getAccessorsThat(inV2)
+                                                                           .map(Accessor::getName)
+                                                                           .collect(Collectors.toList()));
+        Assertions.assertNull(Match.the(value -> true)
+                                   .requiredAnnotationTypes());
+        // the indexed queries return the same elements as the full scans
+        final List<Matcher<Object, ?>> matchers = Arrays.asList(HaveAnnotation.ofType(TestExtends.class),
+                                                                HaveAnnotation.ofType(TestExtends.class)
+                                                                              .or(HaveAnnotation.ofType(TestExtendsWithValue.class)),
+                                                                HaveAnnotation.ofType(TestExtends.class)
+                                                                              .and(HaveAnnotation.ofType(TestExtendsWithValue.class)),
+                                                                HaveAnnotation.ofType(Multiple.class));
+        final Annotate<Class<MarkedClass>> marked = Annotator.of(MarkedClass.class);
+        for (final Matcher<Object, ?> matcher : matchers) {
+            Assertions.assertEquals(marked.getAccessors()
+                                          .filter(matcher::matches)
+                                          .map(Accessor::getName)
+                                          .sorted()
+                                          .collect(Collectors.toList()), marked.getAccessorsThat(matcher)
+                                                                               .map(Accessor::getName)
+                                                                               .sorted()
+                                                                               .collect(Collectors.toList()));
+            Assertions.assertEquals(marked.getFields()
+                                          .filter(matcher::matches)
+                                          .map(Field::getName)
+                                          .sorted()
+                                          .collect(Collectors.toList()), marked.getFieldsThat(matcher)
+                                                                               .map(Field::getName)
+                                                                               .sorted()
+                                                                               .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testSectionsAreComputedOnce() throws Exception {
+        Annotator.invalidate(ViewedClass.class);
+        final Annotate<Class<ViewedClass>> annotate = Annotator.of(ViewedClass.class);
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Accessor<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return annotate.getAccessor("code");
+                }));
+            }
+            start.countDown();
+            for (final Future<Accessor<?>> future : futures) {
+                Assertions.assertSame(annotate.getAccessor("code"), future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // the reverse index holds the accessors that are published
+        Annotator.getAccessorsAnnotatedWith(Column.class)
+                 .stream()
+                 .filter(entry -> entry.getAnnotatedClass()
+                                       .equals(ViewedClass.class))
+                 .forEach(entry -> Assertions.assertSame(annotate.getAccessor(entry.getAccessor()
+                                                                                   .getName()), entry.getAccessor()));
+    }
+}
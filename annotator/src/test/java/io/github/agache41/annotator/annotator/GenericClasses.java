@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.annotator;
+
+import io.github.agache41.annotator.annotations.Recurse;
+
+import java.util.List;
+
+public class GenericClasses {
+
+    public interface Dao<E, ID> {
+    }
+
+    public static abstract class AbstractDao<E> implements Dao<E, Long> {
+    }
+
+    public static class MarkedClassDao extends AbstractDao<MarkedClass> {
+    }
+
+    public static class Wrapper<V> {
+        private V value;
+        private List<V> values;
+    }
+
+    public static class Holder {
+        @Recurse
+        private Wrapper<String> wrapper;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.annotator;
+
+import io.github.agache41.annotator.ViewRegistry;
+import io.github.agache41.annotator.accessor.Accessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ViewTableTest {
+
+    @Test
+    public void testViewTable() {
+        final ClassAnnotator annotate = ClassAnnotator.of(ViewedClass.class);
+        final ViewTable<Column> columns = annotate.getViewTable(Column.class);
+        Assertions.assertSame(columns, annotate.getViewTable(Column.class));
+        Assertions.assertEquals(annotate.accessorCount(), columns.getAccessorCount());
+        final int v1 = ViewRegistry.idOf("v1");
+        final int v2 = ViewRegistry.idOf("v2");
+        for (int index = 0; index < columns.getAccessorCount(); index++) {
+            final Accessor<?> accessor = columns.getAccessor(index);
+            Assertions.assertSame(annotate.getAccessor(index), accessor);
+            Assertions.assertEquals(Annotator.getAnnotationForView(accessor, Column.class, "v2"), columns.get(index, v2));
+            if (!"name".equals(accessor.getName())) {
+                Assertions.assertEquals(Annotator.getAnnotationForView(accessor, Column.class, "v1"), columns.get(index, v1));
+            }
+        }
+        final int name = annotate.getAccessorList()
+                                 .indexOf(annotate.getAccessor("name"));
+        Assertions.assertThrows(RuntimeException.class, () -> columns.get(name, v1));
+        Assertions.assertEquals("name", columns.get(name, "a-view-registered-later")
+                                               .value());
+    }
+}
@@ -0,0 +1,467 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.annotator.accessor;
+
+import io.github.agache41.annotator.accessor.AccessMode;
+import io.github.agache41.annotator.accessor.Accessor;
+import io.github.agache41.annotator.accessor.Binding;
+import io.github.agache41.annotator.accessor.Instantiator;
+import io.github.agache41.annotator.accessor.MethodIndex;
+import io.github.agache41.annotator.accessor.PositionComparator;
+import io.github.agache41.annotator.accessor.Populator;
+import io.github.agache41.annotator.accessor.PrimitiveKind;
+import io.github.agache41.annotator.annotator.Annotate;
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.annotator.ClassAnnotator;
+import io.github.agache41.annotator.metadata.ClassMetadata;
+import io.github.agache41.annotator.metadata.MetadataRegistry;
+import io.github.agache41.annotator.metadata.MetadataSnapshot;
+import io.github.agache41.annotator.metadata.PropertyMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AccessorTest {
+    private List<Accessor<?>> accessorList;
+    private List<Accessor<?>> accessorLeafList;
+
+    private AnnotatedClass root;
+
+    @BeforeEach
+    void setUp() {
+        this.accessorList = Annotator
+                .of(AnnotatedClass.class)
+                .getAccessors()
+                .sorted(/*new PositionComparator()*/)
+                .collect(Collectors.toList());
+        assertEquals(22, this.accessorList.size());
+
+        this.accessorLeafList = Annotator
+                .of(AnnotatedClass.class)
+                .getAccessors()
+                .sorted(new PositionComparator())
+                .filter(Accessor::isLeaf)
+                .collect(Collectors.toList());
+        assertEquals(17, this.accessorLeafList.size());
+
+        this.root = new AnnotatedClass();
+        this.accessorLeafList.stream()
+                             .forEach(acc -> acc.set(this.root, acc.getField()
+                                                                   .getName()));
+        assertEquals("AnnotatedClass(r3=SubAnotatedPlaceholder(f10=f10," +
+                     " r4=SubAnnotatedClass(f7=f7, f8=f8," +
+                     " r2=SubSubAnnotatedClass(f5=f5, f6=f6, f4=f4), f3=f3), f11=f11)," +
+                     " f2=f2, f9=f9," +
+                     " r1=SubAnnotatedClass(f7=f7, f8=f8," +
+                     " r2=SubSubAnnotatedClass(f5=f5, f6=f6, f4=f4), f3=f3)," +
+                     " f1=f1)", this.root.toString());
+
+    }
+
+    @Test
+    void testLeafAccessorsOrder() {
+        assertEquals("f1,f2,r1.f3,r1.r2.f4,r1.r2.f5,r1.r2.f6,r1.f7,r1.f8,f9,r3.f10," +
+                     "r3.r4.f3,r3.r4.r2.f4,r3.r4.r2.f5,r3.r4.r2.f6,r3.r4.f7,r3.r4.f8,r3.f11", this.accessorLeafList
+                             .stream()
+                             .map(Accessor::getName)
+                             .collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void testAllAccessorsOrder() {
+        assertEquals("f1,f2,r1,r1.f3,r1.r2,r1.r2.f4,r1.r2.f5,r1.r2.f6,r1.f7,r1.f8,f9,r3,r3.f10," +
+                     "r3.r4,r3.r4.f3,r3.r4.r2,r3.r4.r2.f4,r3.r4.r2.f5,r3.r4.r2.f6,r3.r4.f7,r3.r4.f8,r3.f11", this.accessorList
+                             .stream()
+                             .map(Accessor::getName)
+                             .collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void testNPEonRead() {
+        final AnnotatedClass root = new AnnotatedClass();
+        root.setF1("testField1");
+        root.setF2("testField2");
+        root.setR1(null);
+        root.setF9("testField4");
+
+        assertThrows(NullPointerException.class, () -> this.accessorLeafList
+                .stream()
+                .map(acc -> acc.get(root))
+                .map(Object::toString)
+                .collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void testRead() {
+        final AnnotatedClass root = new AnnotatedClass();
+        root.setF1("f1");
+        root.setF2("f2");
+        root.setR1(new SubAnnotatedClass());
+        root.getR1()
+            .setF3("f3");
+        root.getR1()
+            .setR2(new SubSubAnnotatedClass());
+        root.getR1()
+            .getR2()
+            .setF4("f4");
+        root.getR1()
+            .getR2()
+            .setF5("f5");
+        root.getR1()
+            .getR2()
+            .setF6("f6");
+        root.getR1()
+            .setF7("f7");
+        root.getR1()
+            .setF8("f8");
+        root.setF9("f9");
+        root.setR3(new SubAnotatedPlaceholder());
+        root.getR3()
+            .setF10("f10");
+        root.getR3()
+            .setF11("f11");
+        root.getR3()
+            .setR4(root.getR1());
+
+        assertEquals("f1,f2,f3,f4,f5,f6,f7,f8,f9,f10,f3,f4,f5,f6,f7,f8,f11", this.accessorLeafList
+                .stream()
+                .map(acc -> acc.get(root))
+                .map(Object::toString)
+                .collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void testAutomaticRead() {
+        assertEquals("f1,f2,f3,f4,f5,f6,f7,f8,f9,f10,f3,f4,f5,f6,f7,f8,f11", this.accessorLeafList
+                .stream()
+                .map(acc -> acc.get(this.root))
+                .map(Object::toString)
+                .collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void testCompiledAccessMode() {
+        this.accessorList.forEach(acc -> assertEquals(AccessMode.COMPILED, acc.getAccessMode(), acc.getName()));
+        // the lombok getters and setters are spun in functional objects
+        assertEquals("LambdaBinding", Annotator.of(PrimitiveClass.class)
+                                               .getAccessor("count")
+                                               .getBinding()
+                                               .getClass()
+                                               .getSimpleName());
+    }
+
+    @Test
+    void testPrimitiveAccess() {
+        final Annotate<Class<PrimitiveClass>> annotate = Annotator.of(PrimitiveClass.class);
+        final Accessor<?> count = annotate.getAccessor("count");
+        final Accessor<?> id = annotate.getAccessor("id");
+        final Accessor<?> amount = annotate.getAccessor("amount");
+        final Accessor<?> active = annotate.getAccessor("active");
+        final Accessor<?> boxed = annotate.getAccessor("boxed");
+        assertEquals(PrimitiveKind.INT, count.getPrimitiveKind());
+        assertEquals(PrimitiveKind.LONG, id.getPrimitiveKind());
+        assertEquals(PrimitiveKind.DOUBLE, amount.getPrimitiveKind());
+        assertEquals(PrimitiveKind.BOOLEAN, active.getPrimitiveKind());
+        assertEquals(PrimitiveKind.NONE, boxed.getPrimitiveKind());
+
+        final PrimitiveClass root = new PrimitiveClass();
+        count.setInt(root, 7);
+        id.setLong(root, 11L);
+        amount.setDouble(root, 2.5);
+        active.setBoolean(root, true);
+        boxed.setInt(root, 3);
+        assertEquals(7, root.getCount());
+        assertEquals(11L, root.getId());
+        assertEquals(2.5, root.getAmount());
+        assertTrue(root.getActive());
+        assertEquals(7, count.getInt(root));
+        assertEquals(11L, id.getLong(root));
+        assertEquals(2.5, amount.getDouble(root));
+        assertTrue(active.getBoolean(root));
+        assertEquals(3, boxed.getInt(root));
+    }
+
+    @Test
+    void testUncheckedExceptionsAreNotWrapped() {
+        final Accessor<?> count = Annotator.of(PrimitiveClass.class)
+                                           .getAccessor("count");
+        assertThrows(ClassCastException.class, () -> count.get(new AnnotatedClass()));
+        assertThrows(ClassCastException.class, () -> count.setInt(new AnnotatedClass(), 1));
+        assertThrows(NullPointerException.class, () -> count.set(new PrimitiveClass(), null));
+    }
+
+    @Test
+    void testPrimitiveConversions() {
+        final Annotate<Class<PrimitiveClass>> annotate = Annotator.of(PrimitiveClass.class);
+        final PrimitiveClass root = new PrimitiveClass();
+        root.setSmall((short) 5);
+        // absent values are read as 0 / false, whatever the binding
+        assertEquals(0, annotate.getAccessor("boxed")
+                                .getInt(root));
+        assertEquals(0.0, annotate.getAccessor("ratio")
+                                  .getDouble(root));
+        // numeric values are widened through Number
+        assertEquals(5, annotate.getAccessor("small")
+                                .getInt(root));
+        assertEquals(5L, annotate.getAccessor("small")
+                                 .getLong(root));
+        root.setRatio(1.5f);
+        assertEquals(1.5, annotate.getAccessor("ratio")
+                                  .getDouble(root));
+        assertEquals(1, annotate.getAccessor("ratio")
+                                .getInt(root));
+    }
+
+    @Test
+    void testPrimitiveWriteConversions() {
+        final Annotate<Class<PrimitiveClass>> annotate = Annotator.of(PrimitiveClass.class);
+        final PrimitiveClass root = new PrimitiveClass();
+        // the values are converted to the kind of the property
+        annotate.getAccessor("small")
+                .setInt(root, 5);
+        assertEquals((short) 5, root.getSmall());
+        annotate.getAccessor("small")
+                .setDouble(root, 6.7);
+        assertEquals((short) 6, root.getSmall());
+        annotate.getAccessor("id")
+                .setInt(root, 9);
+        assertEquals(9L, root.getId());
+        annotate.getAccessor("count")
+                .setLong(root, 12L);
+        assertEquals(12, root.getCount());
+        annotate.getAccessor("amount")
+                .setInt(root, 3);
+        assertEquals(3.0, root.getAmount());
+        assertThrows(IllegalArgumentException.class, () -> annotate.getAccessor("active")
+                                                                   .setInt(root, 1));
+        assertThrows(IllegalArgumentException.class, () -> annotate.getAccessor("count")
+                                                                   .setBoolean(root, true));
+    }
+
+    @Test
+    void testPopulate() {
+        final AnnotatedClass root = new AnnotatedClass();
+        final Populator populator = Populator.of(this.accessorLeafList);
+        populator.populate(root, this.accessorLeafList
+                .stream()
+                .map(acc -> acc.getField()
+                               .getName())
+                .toArray());
+        assertEquals(this.root.toString(), root.toString());
+        final AnnotatedClass supplied = new AnnotatedClass();
+        populator.populate(supplied, index -> this.accessorLeafList.get(index)
+                                                                   .getField()
+                                                                   .getName());
+        assertEquals(this.root.toString(), supplied.toString());
+    }
+
+    @Test
+    void testInstantiator() throws ReflectiveOperationException {
+        final Instantiator<SubAnnotatedClass> instantiator = Instantiator.of(SubAnnotatedClass.class);
+        assertTrue(instantiator.canInstantiate());
+        assertEquals(new SubAnnotatedClass(), instantiator.newInstance());
+        final Instantiator<Runnable> failing = Instantiator.of(Runnable.class);
+        assertFalse(failing.canInstantiate());
+        assertThrows(InstantiationException.class, failing::newInstance);
+    }
+
+    @Test
+    void testRegisteredMetadata() {
+        MetadataRegistry.register(new ClassMetadata() {
+            @Override
+            public String getTypeName() {
+                return PrimitiveClass.class.getName();
+            }
+
+            @Override
+            public List<PropertyMetadata> getProperties() {
+                return Collections.singletonList(new PropertyMetadata("count", PrimitiveClass.class.getName(), "getCount", "setCount", 9, false, new Binding(PrimitiveKind.INT) {
+                    @Override
+                    public Object get(final Object target) {
+                        return ((PrimitiveClass) target).getCount();
+                    }
+
+                    @Override
+                    public void set(final Object target, final Object value) {
+                        ((PrimitiveClass) target).setCount((Integer) value);
+                    }
+
+                    @Override
+                    public AccessMode getAccessMode() {
+                        return AccessMode.GENERATED;
+                    }
+                }));
+            }
+        });
+        Annotator.invalidate(PrimitiveClass.class);
+        try {
+            final Annotate<Class<PrimitiveClass>> annotate = Annotator.of(PrimitiveClass.class);
+            // the position comes from the metadata, the fields not described are scanned with reflection
+            assertEquals(9, annotate.getAccessor("count")
+                                    .getPosition());
+            assertEquals(2, annotate.getAccessor("id")
+                                    .getPosition());
+            assertEquals(AccessMode.GENERATED, annotate.getAccessor("count")
+                                                       .getAccessMode());
+            assertEquals(AccessMode.COMPILED, annotate.getAccessor("id")
+                                                      .getAccessMode());
+            final PrimitiveClass root = new PrimitiveClass();
+            annotate.getAccessor("count")
+                    .setInt(root, 5);
+            assertEquals(5, root.getCount());
+        } finally {
+            MetadataRegistry.invalidate(PrimitiveClass.class);
+            Annotator.invalidate(PrimitiveClass.class);
+        }
+        assertEquals(1, Annotator.of(PrimitiveClass.class)
+                                 .getAccessor("count")
+                                 .getPosition());
+    }
+
+    @Test
+    void testCompleteMetadata() {
+        MetadataRegistry.register(new ClassMetadata() {
+            @Override
+            public String getTypeName() {
+                return PrimitiveClass.class.getName();
+            }
+
+            @Override
+            public List<PropertyMetadata> getProperties() {
+                return Arrays.asList(new PropertyMetadata("count", PrimitiveClass.class.getName(), "getCount", "setCount", 1, false),
+                                     new PropertyMetadata("active", PrimitiveClass.class.getName(), "getActive", "setActive", 4, false));
+            }
+
+            @Override
+            public boolean isComplete() {
+                return true;
+            }
+        });
+        Annotator.invalidate(PrimitiveClass.class);
+        try {
+            final Annotate<Class<PrimitiveClass>> annotate = Annotator.of(PrimitiveClass.class);
+            // complete metadata is not supplemented by a scan of the fields
+            assertEquals(Arrays.asList("active", "count"), annotate.getAccessors()
+                                                                   .map(Accessor::getName)
+                                                                   .sorted()
+                                                                   .collect(Collectors.toList()));
+            final Accessor<?> active = annotate.getAccessor("active");
+            assertEquals("getActive", active.getGetter()
+                                           .getName());
+            final PrimitiveClass root = new PrimitiveClass();
+            active.set(root, true);
+            assertTrue(root.getActive());
+        } finally {
+            MetadataRegistry.invalidate(PrimitiveClass.class);
+            Annotator.invalidate(PrimitiveClass.class);
+        }
+    }
+
+    @Test
+    void testMetadataSnapshot() throws IOException {
+        final Path file = Files.createTempFile("annotator", ".snapshot");
+        try {
+            assertEquals(2, MetadataSnapshot.write(file, Arrays.asList(AnnotatedClass.class, PrimitiveClass.class)));
+            Annotator.invalidateAll();
+            assertEquals(2, MetadataSnapshot.read(file));
+            assertNotNull(MetadataRegistry.of(AnnotatedClass.class));
+            this.setUp();
+            assertEquals(4, Annotator.of(PrimitiveClass.class)
+                                     .getAccessor("active")
+                                     .getPosition());
+        } finally {
+            Files.delete(file);
+            MetadataRegistry.invalidate(AnnotatedClass.class);
+            MetadataRegistry.invalidate(PrimitiveClass.class);
+            Annotator.invalidateAll();
+        }
+    }
+
+    @Test
+    void testIterationApi() {
+        final Annotate<Class<AnnotatedClass>> annotate = Annotator.of(AnnotatedClass.class);
+        final List<Accessor<?>> accessors = annotate.getAccessorList();
+        assertEquals(this.accessorList, accessors);
+        assertSame(accessors, annotate.getAccessorList());
+        assertEquals(22, annotate.accessorCount());
+        assertSame(accessors.get(3), annotate.getAccessor(3));
+        final StringBuilder names = new StringBuilder();
+        annotate.forEachAccessor(accessor -> names.append(accessor.getName())
+                                                  .append(','));
+        assertEquals(this.accessorList.stream()
+                                      .map(accessor -> accessor.getName() + ",")
+                                      .collect(Collectors.joining()), names.toString());
+        final int[] fields = new int[1];
+        annotate.forEachField(field -> fields[0]++);
+        assertEquals(annotate.getFields()
+                             .count(), fields[0]);
+    }
+
+    @Test
+    void testMethodIndex() throws NoSuchMethodException {
+        final Annotate<Class<FluentClass>> annotate = Annotator.of(FluentClass.class);
+        final Accessor<?> valid = annotate.getAccessor("valid");
+        assertEquals(FluentClass.class.getMethod("isValid"), valid.getGetter());
+        assertEquals(FluentClass.class.getMethod("setValid", boolean.class), valid.getSetter());
+        final Accessor<?> name = annotate.getAccessor("name");
+        assertEquals(FluentClass.class.getMethod("name"), name.getGetter());
+        assertEquals(FluentClass.class.getMethod("name", String.class), name.getSetter());
+        final FluentClass fluent = new FluentClass();
+        name.set(fluent, "fluent");
+        assertEquals("fluent", fluent.name());
+        assertNull(ClassAnnotator.of(FluentClass.class)
+                                 .getMethodIndex()
+                                 .getMethod("getName"));
+    }
+
+    @Test
+    void testBridgeSetter() throws NoSuchMethodException {
+        final MethodIndex methodIndex = ClassAnnotator.of(TypedSubClass.class)
+                                                      .getMethodIndex();
+        // the typed override is reached through the bridge generated for the erased signature
+        final Method setter = methodIndex.getSetter("value", Object.class);
+        assertNotNull(setter);
+        assertEquals(TypedSubClass.class.getMethod("setValue", Object.class), setter);
+        assertEquals(TypedSubClass.class.getMethod("setValue", String.class), methodIndex.getSetter("value", String.class));
+        // the covariant getter wins over its bridge
+        assertEquals(String.class, methodIndex.getGetter("value", Object.class)
+                                              .getReturnType());
+        final Accessor<?> value = Annotator.of(TypedSubClass.class)
+                                           .getAccessor("value");
+        assertEquals(setter, value.getSetter());
+        final TypedSubClass typed = new TypedSubClass();
+        value.set(typed, " typed ");
+        assertEquals("typed", typed.getValue());
+        assertEquals("typed", value.get(typed));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package io.github.agache41.annotator.annotator.accessor;
+
+import io.github.agache41.annotator.annotations.Position;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PrimitiveClass {
+    @Position(1)
+    private int count;
+    @Position(2)
+    private long id;
+    @Position(3)
+    private double amount;
+    @Position(4)
+    private boolean active;
+    @Position(5)
+    private Integer boxed;
+    @Position(6)
+    private short small;
+    @Position(7)
+    private Float ratio;
+
+    public boolean getActive() {
+        return this.active;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.discovery;
+
+import io.github.agache41.annotator.annotations.Position;
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.annotator.Column;
+import io.github.agache41.annotator.annotator.MarkedClass;
+import io.github.agache41.annotator.annotator.Multiple;
+import io.github.agache41.annotator.annotator.SubViewedClass;
+import io.github.agache41.annotator.annotator.TestExtends;
+import io.github.agache41.annotator.annotator.TestExtendsWithValue;
+import io.github.agache41.annotator.annotator.accessor.AnnotatedClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+class AnnotationIndexTest {
+
+    @Test
+    public void testAnnotationIndex() throws IOException, URISyntaxException {
+        final Path testClasses = Paths.get(MarkedClass.class.getProtectionDomain()
+                                                            .getCodeSource()
+                                                            .getLocation()
+                                                            .toURI());
+        final AnnotationIndex index = AnnotationIndex.scan(Collections.singletonList(testClasses));
+        Assertions.assertTrue(index.getTypesAnnotatedWith(TestExtends.class)
+                                   .contains(MarkedClass.class.getName()));
+        Assertions.assertFalse(index.getTypesAnnotatedWith(TestExtends.class)
+                                    .contains(AnnotatedClass.class.getName()));
+        // annotations on fields and the contents of containers count as well
+        Assertions.assertTrue(index.getClassNames(Position.class)
+                                   .contains(AnnotatedClass.class.getName()));
+        Assertions.assertTrue(index.getClassNames(Multiple.class)
+                                   .contains(MarkedClass.class.getName()));
+        // the annotated fields of a superclass count for the subclass, like in its annotator
+        Assertions.assertTrue(index.getClassNames(Column.class)
+                                   .contains(SubViewedClass.class.getName()));
+        Assertions.assertEquals(2, Annotator.of(SubViewedClass.class)
+                                            .getAccessor("code")
+                                            .getAnnotations(Column.class)
+                                            .size());
+        Assertions.assertTrue(index.loadClasses(this.getClass()
+                                                    .getClassLoader(), TestExtendsWithValue.class)
+                                   .contains(MarkedClass.class));
+    }
+}
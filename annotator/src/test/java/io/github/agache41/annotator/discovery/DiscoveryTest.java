@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.discovery;
+
+import io.github.agache41.annotator.annotations.Position;
+import io.github.agache41.annotator.annotations.Recurse;
+import io.github.agache41.annotator.annotator.MarkedClass;
+import io.github.agache41.annotator.annotator.ResetRegistry;
+import io.github.agache41.annotator.annotator.accessor.AnnotatedClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+@ExtendWith(ResetRegistry.class)
+class DiscoveryTest {
+
+    @Test
+    public void testDiscoveryCache(@TempDir final Path cacheDirectory) throws IOException, URISyntaxException {
+        final Path testClasses = Paths.get(MarkedClass.class.getProtectionDomain()
+                                                            .getCodeSource()
+                                                            .getLocation()
+                                                            .toURI());
+        final Discovery discovery = Discovery.of(cacheDirectory);
+        Assertions.assertTrue(discovery.discover(Collections.singletonList(testClasses), Position.class)
+                                       .contains(AnnotatedClass.class.getName()));
+        Assertions.assertEquals(1, discovery.getCacheMisses());
+        // the unchanged directory is read from the cache
+        final Discovery restarted = Discovery.of(cacheDirectory);
+        Assertions.assertEquals(discovery.discover(Collections.singletonList(testClasses), Position.class),
+                                restarted.discover(Collections.singletonList(testClasses), Position.class));
+        Assertions.assertEquals(1, restarted.getCacheHits());
+        Assertions.assertEquals(0, restarted.getCacheMisses());
+        final WarmUpReport report = restarted.register(this.getClass()
+                                                           .getClassLoader(), Collections.singletonList(testClasses), Recurse.class)
+                                             .join();
+        Assertions.assertTrue(report.getBuildTimes()
+                                    .containsKey(MarkedClass.class));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.discovery;
+
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.annotator.MarkedClass;
+import io.github.agache41.annotator.annotator.ResetRegistry;
+import io.github.agache41.annotator.annotator.accessor.AnnotatedClass;
+import io.github.agache41.annotator.annotator.accessor.SubAnnotatedClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+@ExtendWith(ResetRegistry.class)
+class WarmUpTest {
+
+    @Test
+    public void testWarmUp() throws IOException {
+        Annotator.invalidateAll();
+        final WarmUpReport report = WarmUp.warmUp(Arrays.asList(AnnotatedClass.class, SubAnnotatedClass.class, MarkedClass.class))
+                                          .join();
+        Assertions.assertEquals(3, report.getBuildTimes()
+                                         .size());
+        Assertions.assertTrue(report.getFailures()
+                                    .isEmpty());
+        Assertions.assertTrue(Annotator.getAnnotatedClasses()
+                                       .containsAll(Arrays.asList(AnnotatedClass.class, SubAnnotatedClass.class, MarkedClass.class)));
+        final WarmUpReport packageReport = WarmUp.warmUp(this.getClass()
+                                                             .getClassLoader(), "io.github.agache41.annotator.annotator.accessor")
+                                                 .join();
+        Assertions.assertTrue(packageReport.getBuildTimes()
+                                           .containsKey(AnnotatedClass.class));
+        Assertions.assertTrue(packageReport.getFailures()
+                                           .isEmpty(), packageReport.getFailures()
+                                                                    .toString());
+    }
+}
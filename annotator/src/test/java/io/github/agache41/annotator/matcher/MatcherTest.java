@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.matcher;
+
+import io.github.agache41.annotator.annotations.Extends;
+import io.github.agache41.annotator.annotator.Annotator;
+import io.github.agache41.annotator.annotator.BaseTestClass;
+import io.github.agache41.annotator.annotator.MarkedClass;
+import io.github.agache41.annotator.annotator.Multiple;
+import io.github.agache41.annotator.annotator.TestExtends;
+import io.github.agache41.annotator.annotator.TestExtendsWithValue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+class MatcherTest {
+
+    @Test
+    public void testMatcherEvaluation() {
+        final List<Matcher<Object, ?>> matchers = Arrays.asList(HaveAnnotation.ofType(TestExtends.class),
+                                                                HaveAnnotation.ofType(TestExtends.class)
+                                                                              .and(HaveAnnotation.ofType(TestExtendsWithValue.class)),
+                                                                HaveAnnotation.ofType(TestExtends.class)
+                                                                              .or(HaveAnnotation.ofType(TestExtendsWithValue.class)),
+                                                                HaveAnnotation.ofType(TestExtendsWithValue.class)
+                                                                              .where(annot -> "myValue".equals(annot.value()))
+                                                                              .or(HaveAnnotation.ofType(Multiple.class)
+                                                                                                .that(annot -> "two".equals(annot.value()))));
+        for (final Matcher<Object, ?> matcher : matchers) {
+            for (final Field field : Annotator.of(MarkedClass.class)
+                                              .getFieldList()) {
+                Assertions.assertEquals(matcher.match(field)
+                                               .findAny()
+                                               .isPresent(), matcher.matches(field), field.getName());
+            }
+        }
+        final Matcher<Object, Extends> havingExtends = HaveAnnotation.ofType(Extends.class)
+                                                                     .having(AnExtendsValue.of(BaseTestClass.class));
+        for (final Annotation annotation : Annotator.of(MarkedClass.class)
+                                                    .getAnnotationList()) {
+            Assertions.assertEquals(havingExtends.match(annotation)
+                                                 .findAny()
+                                                 .isPresent(), havingExtends.matches(annotation));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2022-2023  Alexandru Agache
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.agache41.annotator.metadata;
+
+import io.github.agache41.annotator.annotator.accessor.PrimitiveClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+class MetadataSnapshotTest {
+
+    @Test
+    public void testFingerprintFollowsTheClassBytes(@TempDir final Path classes) throws IOException, ClassNotFoundException {
+        final String entryName = PrimitiveClass.class.getName()
+                                                     .replace('.', '/') + ".class";
+        final Path classFile = classes.resolve(entryName);
+        Files.createDirectories(classFile.getParent());
+        try (final InputStream input = PrimitiveClass.class.getClassLoader()
+                                                           .getResourceAsStream(entryName)) {
+            Files.copy(input, classFile);
+        }
+        final FileTime fixedTime = FileTime.fromMillis(315532800000L);
+        Files.setLastModifiedTime(classFile, fixedTime);
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri()
+                                                                               .toURL()}, ClassLoader.getPlatformClassLoader())) {
+            final Class<?> copy = loader.loadClass(PrimitiveClass.class.getName());
+            final long fingerprint = MetadataSnapshot.fingerprint(copy);
+            Assertions.assertNotEquals(0, fingerprint);
+            Assertions.assertEquals(MetadataSnapshot.fingerprint(PrimitiveClass.class), fingerprint);
+            // a rebuilt class with the same size and modification time gets another fingerprint
+            final byte[] bytes = Files.readAllBytes(classFile);
+            bytes[bytes.length - 1] ^= 1;
+            Files.write(classFile, bytes);
+            Files.setLastModifiedTime(classFile, fixedTime);
+            Assertions.assertNotEquals(fingerprint, MetadataSnapshot.fingerprint(copy));
+        }
+    }
+}